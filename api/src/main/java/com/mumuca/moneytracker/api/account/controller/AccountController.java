@@ -5,6 +5,7 @@ import com.mumuca.moneytracker.api.account.dto.CreateAccountDTO;
 import com.mumuca.moneytracker.api.account.dto.EditAccountDTO;
 import com.mumuca.moneytracker.api.account.dto.WithdrawDTO;
 import com.mumuca.moneytracker.api.account.service.AccountService;
+import com.mumuca.moneytracker.api.etag.UserVersions;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -12,14 +13,18 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
+import static com.mumuca.moneytracker.api.util.HttpUtils.buildConditionalResponse;
+
 @RestController
 @AllArgsConstructor
 public class AccountController {
 
     private final AccountService accountService;
+    private final UserVersions userVersions;
 
     @PostMapping(path = "/v1/accounts")
     public ResponseEntity<AccountDTO> createAccount(
@@ -36,31 +41,38 @@ public class AccountController {
     @GetMapping(path = "/v1/accounts/{id}")
     public ResponseEntity<AccountDTO> getAccount(
             @PathVariable("id") String accountId,
-            @AuthenticationPrincipal Jwt jwt
+            @AuthenticationPrincipal Jwt jwt,
+            WebRequest webRequest
     ) {
-        AccountDTO account = accountService.getAccount(accountId, jwt.getSubject());
-
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(account);
+        return buildConditionalResponse(
+                webRequest,
+                userVersions.current(jwt.getSubject()),
+                () -> accountService.getAccount(accountId, jwt.getSubject())
+        );
     }
 
     @GetMapping(path = "/v1/accounts/active")
-    public ResponseEntity<List<AccountDTO>> listActiveAccounts(@AuthenticationPrincipal Jwt jwt) {
-        List<AccountDTO> activeAccounts = accountService.listActiveAccounts(jwt.getSubject());
-
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(activeAccounts);
+    public ResponseEntity<List<AccountDTO>> listActiveAccounts(
+            @AuthenticationPrincipal Jwt jwt,
+            WebRequest webRequest
+    ) {
+        return buildConditionalResponse(
+                webRequest,
+                userVersions.current(jwt.getSubject()),
+                () -> accountService.listActiveAccounts(jwt.getSubject())
+        );
     }
 
     @GetMapping(path = "/v1/accounts/archived")
-    public ResponseEntity<List<AccountDTO>> listArchivedAccounts(@AuthenticationPrincipal Jwt jwt) {
-        List<AccountDTO> archivedAccounts = accountService.listArchivedAccounts(jwt.getSubject());
-
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(archivedAccounts);
+    public ResponseEntity<List<AccountDTO>> listArchivedAccounts(
+            @AuthenticationPrincipal Jwt jwt,
+            WebRequest webRequest
+    ) {
+        return buildConditionalResponse(
+                webRequest,
+                userVersions.current(jwt.getSubject()),
+                () -> accountService.listArchivedAccounts(jwt.getSubject())
+        );
     }
 
     @PatchMapping(path = "/v1/accounts/{id}/archive")
@@ -3,6 +3,7 @@ package com.mumuca.moneytracker.api.account.controller;
 import com.mumuca.moneytracker.api.account.dto.*;
 import com.mumuca.moneytracker.api.account.model.Status;
 import com.mumuca.moneytracker.api.account.service.TransferService;
+import com.mumuca.moneytracker.api.etag.UserVersions;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -13,9 +14,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 
+import static com.mumuca.moneytracker.api.util.HttpUtils.buildConditionalResponse;
+
 /// Controlador para gerenciar transferências.
 ///
 /// Funcionalidades:
@@ -39,6 +43,7 @@ import java.time.LocalDate;
 public class TransferController {
 
     private final TransferService transferService;
+    private final UserVersions userVersions;
 
     @PostMapping(path = "/v1/transfers/unique")
     public ResponseEntity<RecurrenceDTO<TransferDTO>> registerUniqueTransfer(
@@ -69,13 +74,14 @@ public class TransferController {
     @GetMapping(path = "/v1/transfers/{id}")
     public ResponseEntity<RecurrenceDTO<TransferDTO>> getTransfer(
             @PathVariable("id") String transferId,
-            @AuthenticationPrincipal Jwt jwt
+            @AuthenticationPrincipal Jwt jwt,
+            WebRequest webRequest
     ) {
-        RecurrenceDTO<TransferDTO> transfer = transferService.getTransfer(transferId, jwt.getSubject());
-
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(transfer);
+        return buildConditionalResponse(
+                webRequest,
+                userVersions.current(jwt.getSubject()),
+                () -> transferService.getTransfer(transferId, jwt.getSubject())
+        );
     }
 
     @GetMapping(path = "/v1/transfers")
@@ -86,19 +92,29 @@ public class TransferController {
         LocalDate endDate,
         @PageableDefault(sort = "billingDate", size = 20) Pageable pageable,
         @RequestParam(value = "status", required = false, defaultValue = "ALL") Status status,
-        @AuthenticationPrincipal Jwt jwt
+        @AuthenticationPrincipal Jwt jwt,
+        WebRequest webRequest
     ) {
-        Page<RecurrenceDTO<TransferDTO>> transferPage = transferService.listTransfers(
-                startDate,
-                endDate,
-                pageable,
-                status,
-                jwt.getSubject()
+        return buildConditionalResponse(
+                webRequest,
+                userVersions.current(jwt.getSubject()),
+                () -> transferService.listTransfers(
+                        startDate,
+                        endDate,
+                        pageable,
+                        status,
+                        jwt.getSubject()
+                ),
+                listTransfersVariant(startDate, endDate, status, LocalDate.now())
         );
+    }
 
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(transferPage);
+    // The dates default to today, so the same URL lists other transfers tomorrow. OVERDUE and PENDING are told
+    // apart by today's date too, so a transfer billed yesterday moves from one to the other overnight, unwritten.
+    static Object[] listTransfersVariant(LocalDate startDate, LocalDate endDate, Status status, LocalDate today) {
+        return status == Status.OVERDUE || status == Status.PENDING
+                ? new Object[] {startDate, endDate, today}
+                : new Object[] {startDate, endDate};
     }
 
     @PatchMapping(path = "/v1/transfers/{id}/pay")
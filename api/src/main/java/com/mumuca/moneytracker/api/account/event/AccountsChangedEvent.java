@@ -0,0 +1,3 @@
+package com.mumuca.moneytracker.api.account.event;
+
+public record AccountsChangedEvent(String userId) {}
@@ -0,0 +1,275 @@
+package com.mumuca.moneytracker.api.account.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.mumuca.moneytracker.api.account.dto.AccountDTO;
+import com.mumuca.moneytracker.api.account.dto.RecurrenceDTO;
+import com.mumuca.moneytracker.api.account.dto.TransferDTO;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serializers for the DTOs of the transfer endpoints. A page of transfers carries two accounts and a recurrence
+ * per row, and going through the bean serializers costs a property lookup, a getter call and a serializer
+ * dispatch per field. These write the fields straight to the generator, with their names encoded once.
+ * <p>
+ * The same few accounts show up on every row, so each distinct account is encoded once per response and its
+ * JSON copied as is after that.
+ * <p>
+ * The output is the same the bean serializers produce with Spring Boot's settings, field order included,
+ * which {@code TransferJsonModuleTest} checks. A field added to one of the records has to be added here too.
+ */
+@Component
+public class TransferJsonModule extends SimpleModule {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString COLOR = new SerializedString("color");
+    private static final SerializedString ICON = new SerializedString("icon");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString BALANCE = new SerializedString("balance");
+    private static final SerializedString CURRENCY = new SerializedString("currency");
+    private static final SerializedString IS_ARCHIVED = new SerializedString("isArchived");
+
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString FROM_ACCOUNT = new SerializedString("fromAccount");
+    private static final SerializedString TO_ACCOUNT = new SerializedString("toAccount");
+    private static final SerializedString VALUE = new SerializedString("value");
+    private static final SerializedString BILLING_DATE = new SerializedString("billingDate");
+    private static final SerializedString PAID = new SerializedString("paid");
+    private static final SerializedString PAID_DATE = new SerializedString("paidDate");
+    private static final SerializedString INSTALLMENT_INDEX = new SerializedString("installmentIndex");
+    private static final SerializedString INSTALLMENTS = new SerializedString("installments");
+    private static final SerializedString RECURRENCE_ID = new SerializedString("recurrenceId");
+
+    private static final SerializedString INTERVAL = new SerializedString("interval");
+    private static final SerializedString FIRST_OCCURRENCE = new SerializedString("firstOccurrence");
+    private static final SerializedString TRANSACTION_TYPE = new SerializedString("transactionType");
+    private static final SerializedString RECURRENCE_TYPE = new SerializedString("recurrenceType");
+    private static final SerializedString RECURRENCES = new SerializedString("recurrences");
+
+    // Key of the per-call attribute holding the JSON of the accounts already written in the response.
+    private static final Object ENCODED_ACCOUNTS = new Object();
+
+    public TransferJsonModule() {
+        super(TransferJsonModule.class.getSimpleName());
+
+        addSerializer(AccountDTO.class, new AccountDTOSerializer());
+        addSerializer(TransferDTO.class, new TransferDTOSerializer());
+        addSerializer(new RecurrenceDTOSerializer());
+    }
+
+    static final class AccountDTOSerializer extends StdSerializer<AccountDTO> {
+
+        AccountDTOSerializer() {
+            super(AccountDTO.class);
+        }
+
+        @Override
+        public void serialize(AccountDTO account, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(account);
+            writeFields(account, gen);
+            gen.writeEndObject();
+        }
+
+        private static void writeFields(AccountDTO account, JsonGenerator gen) throws IOException {
+            gen.writeFieldName(ID);
+            gen.writeString(account.id());
+            gen.writeFieldName(NAME);
+            gen.writeString(account.name());
+            gen.writeFieldName(COLOR);
+            gen.writeString(account.color());
+            gen.writeFieldName(ICON);
+            gen.writeString(account.icon());
+            gen.writeFieldName(TYPE);
+            writeEnum(account.type(), gen);
+            gen.writeFieldName(BALANCE);
+            writeNumber(account.balance(), gen);
+            gen.writeFieldName(CURRENCY);
+            gen.writeString(account.currency());
+            gen.writeFieldName(IS_ARCHIVED);
+            gen.writeBoolean(account.isArchived());
+        }
+    }
+
+    static final class TransferDTOSerializer extends StdSerializer<TransferDTO> {
+
+        TransferDTOSerializer() {
+            super(TransferDTO.class);
+        }
+
+        @Override
+        public void serialize(TransferDTO transfer, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(transfer);
+            gen.writeFieldName(ID);
+            gen.writeString(transfer.id());
+            gen.writeFieldName(TITLE);
+            gen.writeString(transfer.title());
+            gen.writeFieldName(DESCRIPTION);
+            gen.writeString(transfer.description());
+            gen.writeFieldName(FROM_ACCOUNT);
+            writeAccount(transfer.fromAccount(), gen, provider);
+            gen.writeFieldName(TO_ACCOUNT);
+            writeAccount(transfer.toAccount(), gen, provider);
+            gen.writeFieldName(VALUE);
+            writeNumber(transfer.value(), gen);
+            gen.writeFieldName(CURRENCY);
+            gen.writeString(transfer.currency());
+            gen.writeFieldName(BILLING_DATE);
+            writeDate(transfer.billingDate(), gen, provider);
+            gen.writeFieldName(PAID);
+            writeBoolean(transfer.paid(), gen);
+            gen.writeFieldName(PAID_DATE);
+            writeDate(transfer.paidDate(), gen, provider);
+            gen.writeFieldName(INSTALLMENT_INDEX);
+            writeNumber(transfer.installmentIndex(), gen);
+            gen.writeFieldName(INSTALLMENTS);
+            writeNumber(transfer.installments(), gen);
+            gen.writeFieldName(RECURRENCE_ID);
+            gen.writeString(transfer.recurrenceId());
+            gen.writeEndObject();
+        }
+
+        private static void writeAccount(AccountDTO account, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (account == null) {
+                gen.writeNull();
+                return;
+            }
+
+            // Copied JSON would not follow the indentation, and without a codec there is no factory to encode it.
+            if (gen.getPrettyPrinter() != null || gen.getCodec() == null) {
+                gen.writeStartObject(account);
+                AccountDTOSerializer.writeFields(account, gen);
+                gen.writeEndObject();
+                return;
+            }
+
+            @SuppressWarnings("unchecked")
+            Map<AccountDTO, String> encoded = (Map<AccountDTO, String>) provider.getAttribute(ENCODED_ACCOUNTS);
+
+            if (encoded == null) {
+                encoded = new HashMap<>();
+                provider.setAttribute(ENCODED_ACCOUNTS, encoded);
+            }
+
+            String json = encoded.get(account);
+
+            if (json == null) {
+                StringWriter out = new StringWriter();
+
+                try (JsonGenerator accountGen = gen.getCodec().getFactory().createGenerator(out)) {
+                    accountGen.writeStartObject();
+                    AccountDTOSerializer.writeFields(account, accountGen);
+                    accountGen.writeEndObject();
+                }
+
+                json = out.toString();
+                encoded.put(account, json);
+            }
+
+            gen.writeRawValue(json);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    static final class RecurrenceDTOSerializer extends StdSerializer<RecurrenceDTO> {
+
+        private final TransferDTOSerializer transferSerializer = new TransferDTOSerializer();
+
+        RecurrenceDTOSerializer() {
+            super(RecurrenceDTO.class);
+        }
+
+        @Override
+        public void serialize(RecurrenceDTO recurrence, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(recurrence);
+            gen.writeFieldName(ID);
+            gen.writeString(recurrence.id());
+            gen.writeFieldName(INTERVAL);
+            writeEnum(recurrence.interval(), gen);
+            gen.writeFieldName(FIRST_OCCURRENCE);
+            writeDate(recurrence.firstOccurrence(), gen, provider);
+            gen.writeFieldName(TRANSACTION_TYPE);
+            writeEnum(recurrence.transactionType(), gen);
+            gen.writeFieldName(RECURRENCE_TYPE);
+            writeEnum(recurrence.recurrenceType(), gen);
+            gen.writeFieldName(RECURRENCES);
+
+            if (recurrence.recurrences() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(recurrence.recurrences(), recurrence.recurrences().size());
+
+                for (Object element : recurrence.recurrences()) {
+                    if (element instanceof TransferDTO transfer) {
+                        transferSerializer.serialize(transfer, gen, provider);
+                    } else {
+                        provider.defaultSerializeValue(element, gen);
+                    }
+                }
+
+                gen.writeEndArray();
+            }
+
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeEnum(Enum<?> value, JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value.name());
+        }
+    }
+
+    private static void writeNumber(BigDecimal value, JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeNumber(Integer value, JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeBoolean(Boolean value, JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeBoolean(value);
+        }
+    }
+
+    // Like LocalDateSerializer: ISO text, or [year, month, day] when dates are written as timestamps.
+    private static void writeDate(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            gen.writeStartArray();
+            gen.writeNumber(value.getYear());
+            gen.writeNumber(value.getMonthValue());
+            gen.writeNumber(value.getDayOfMonth());
+            gen.writeEndArray();
+        } else {
+            gen.writeString(value.toString());
+        }
+    }
+}
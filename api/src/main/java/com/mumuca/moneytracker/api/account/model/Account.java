@@ -14,6 +14,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "accounts")
+@EntityListeners(AccountEntityListener.class)
 @Getter
 @Setter
 @AllArgsConstructor
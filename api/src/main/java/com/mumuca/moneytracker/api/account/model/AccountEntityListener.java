@@ -0,0 +1,28 @@
+package com.mumuca.moneytracker.api.account.model;
+
+import com.mumuca.moneytracker.api.account.event.AccountsChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Every write to an account, balance changes from transfers included, goes through here.
+ */
+@Component
+@AllArgsConstructor
+public class AccountEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onAccountChanged(Account account) {
+        if (account.getUser() != null) {
+            eventPublisher.publishEvent(new AccountsChangedEvent(account.getUser().getId()));
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package com.mumuca.moneytracker.api.account.model;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.temporal.ChronoUnit;
+
+@Getter
+@AllArgsConstructor
 public enum RecurrenceInterval {
-    DAILY,
-    WEEKLY,
-    BIWEEKLY,
-    MONTHLY,
-    BIMONTHLY,
-    TRIMONTHLY,
-    SIXMONTHLY,
-    YEARLY
+    DAILY(ChronoUnit.DAYS, 1),
+    WEEKLY(ChronoUnit.WEEKS, 1),
+    BIWEEKLY(ChronoUnit.WEEKS, 2),
+    MONTHLY(ChronoUnit.MONTHS, 1),
+    BIMONTHLY(ChronoUnit.MONTHS, 2),
+    TRIMONTHLY(ChronoUnit.MONTHS, 3),
+    SIXMONTHLY(ChronoUnit.MONTHS, 6),
+    YEARLY(ChronoUnit.YEARS, 1);
+
+    private final ChronoUnit unit;
+    private final int step;
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,9 +14,11 @@ import java.util.Optional;
 public interface AccountRepository extends JpaRepository<Account, String> {
     Optional<Account> findByIdAndUserId(String id, String userId);
 
+    @Transactional(readOnly = true)
     @Query("SELECT a FROM Account a WHERE a.user.id = :userId AND a.isArchived = false")
     List<Account> findActiveAccountsByUserId(@Param("userId") String userId);
 
+    @Transactional(readOnly = true)
     @Query("SELECT a FROM Account a WHERE a.user.id = :userId AND a.isArchived = true")
     List<Account> findArchivedAccountsByUserId(@Param("userId") String userId);
 }
@@ -0,0 +1,11 @@
+package com.mumuca.moneytracker.api.account.service;
+
+import com.mumuca.moneytracker.api.account.dto.AccountDTO;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+public interface AccountListCache {
+    List<AccountDTO> get(String userId, boolean archived, Supplier<List<AccountDTO>> loader);
+    void evict(String userId);
+}
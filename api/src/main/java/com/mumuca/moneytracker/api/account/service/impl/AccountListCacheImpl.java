@@ -0,0 +1,271 @@
+package com.mumuca.moneytracker.api.account.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mumuca.moneytracker.api.account.dto.AccountDTO;
+import com.mumuca.moneytracker.api.account.event.AccountsChangedEvent;
+import com.mumuca.moneytracker.api.account.service.AccountListCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Keeps each user's active and archived account lists in two tiers: a bounded Caffeine cache on every node,
+ * in front of Redis when {@code accounts.cache.shared.enabled} is set.
+ * <p>
+ * Every write to an account publishes {@link AccountsChangedEvent}, and the user's lists are evicted once that
+ * transaction completes:
+ * <ul>
+ *     <li>locally,</li>
+ *     <li>from Redis,</li>
+ *     <li>and on the other nodes, through a Redis channel.</li>
+ * </ul>
+ * A load that started before an eviction must not put the old list back. So each tier keeps a per-user
+ * generation that eviction bumps, and a load only stores its result if the generation did not move.
+ * <p>
+ * With read replicas, a node may reload a list from a replica that has not replayed the write yet. The lists
+ * are therefore evicted a second time once {@code db.replicas.max-lag} has passed.
+ */
+@Slf4j
+@Service
+public class AccountListCacheImpl implements AccountListCache, DisposableBean {
+
+    public static final String CACHE_NAME = "accounts";
+
+    static final String EVICTION_CHANNEL = "moneytracker:accounts:evicted";
+
+    private static final TypeReference<List<AccountDTO>> ACCOUNT_LIST = new TypeReference<>() {};
+
+    private static final RedisScript<Void> PUT_IF_GENERATION = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '0') == ARGV[2] then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            end
+            """);
+
+    private static final RedisScript<Void> EVICT = RedisScript.of("""
+            redis.call('INCR', KEYS[3])
+            redis.call('PEXPIRE', KEYS[3], ARGV[3])
+            redis.call('DEL', KEYS[1], KEYS[2])
+            redis.call('PUBLISH', ARGV[1], ARGV[2])
+            """);
+
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+    private record Key(String userId, boolean archived) {}
+
+    private final Cache<Key, List<AccountDTO>> local;
+    private final Cache<String, Long> localGenerations;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+    private final Duration replicaMaxLag;
+
+    private final StringRedisTemplate redis;
+    private final Duration sharedTimeToLive;
+    private final RedisMessageListenerContainer evictionListener;
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+    private final Counter sharedErrors;
+
+    public AccountListCacheImpl(
+            @Value("${accounts.cache.local.maximum-size:10000}") long localMaximumSize,
+            @Value("${accounts.cache.local.time-to-live:60s}") Duration localTimeToLive,
+            @Value("${accounts.cache.shared.enabled:false}") boolean sharedEnabled,
+            @Value("${accounts.cache.shared.time-to-live:10m}") Duration sharedTimeToLive,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            ObjectProvider<RedisConnectionFactory> redisConnectionFactory,
+            ObjectMapper objectMapper,
+            TaskScheduler taskScheduler,
+            Environment environment,
+            MeterRegistry meterRegistry
+    ) {
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTimeToLive)
+                .recordStats()
+                .build();
+        this.localGenerations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build();
+        this.objectMapper = objectMapper;
+        this.taskScheduler = taskScheduler;
+        this.replicaMaxLag = environment.getProperty("db.replicas.urls", String[].class, new String[0]).length > 0
+                ? environment.getRequiredProperty("db.replicas.max-lag", Duration.class)
+                : null;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, CACHE_NAME, Tags.of("cache.manager", "accountListCache"));
+
+        this.redis = sharedEnabled ? redisTemplate.getObject() : null;
+        this.sharedTimeToLive = sharedTimeToLive;
+        this.sharedHits = sharedCounter(meterRegistry, "hit");
+        this.sharedMisses = sharedCounter(meterRegistry, "miss");
+        this.sharedErrors = sharedCounter(meterRegistry, "error");
+
+        if (sharedEnabled) {
+            this.evictionListener = new RedisMessageListenerContainer();
+            this.evictionListener.setConnectionFactory(redisConnectionFactory.getObject());
+            this.evictionListener.addMessageListener(
+                    (message, pattern) -> evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(EVICTION_CHANNEL)
+            );
+            this.evictionListener.afterPropertiesSet();
+            this.evictionListener.start();
+        } else {
+            this.evictionListener = null;
+        }
+    }
+
+    @Override
+    public List<AccountDTO> get(String userId, boolean archived, Supplier<List<AccountDTO>> loader) {
+        Key key = new Key(userId, archived);
+
+        List<AccountDTO> cached = local.getIfPresent(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        Long localGeneration = localGenerations.getIfPresent(userId);
+        String sharedGeneration = null;
+
+        if (redis != null) {
+            try {
+                String json = redis.opsForValue().get(listKey(key));
+
+                if (json != null) {
+                    sharedHits.increment();
+                    List<AccountDTO> shared = objectMapper.readValue(json, ACCOUNT_LIST);
+                    putLocal(key, shared, localGeneration);
+                    return shared;
+                }
+
+                sharedMisses.increment();
+                sharedGeneration = Objects.requireNonNullElse(redis.opsForValue().get(generationKey(userId)), "0");
+            } catch (JsonProcessingException | RuntimeException ex) {
+                sharedErrors.increment();
+                log.warn("Shared account list cache unavailable, reading from the database: {}", ex.getMessage());
+            }
+        }
+
+        List<AccountDTO> accounts = loader.get();
+
+        if (sharedGeneration != null) {
+            try {
+                redis.execute(
+                        PUT_IF_GENERATION,
+                        List.of(listKey(key), generationKey(userId)),
+                        objectMapper.writeValueAsString(accounts),
+                        sharedGeneration,
+                        String.valueOf(sharedTimeToLive.toMillis())
+                );
+            } catch (JsonProcessingException | RuntimeException ex) {
+                sharedErrors.increment();
+                log.warn("Could not store account list in the shared cache: {}", ex.getMessage());
+            }
+        }
+
+        putLocal(key, accounts, localGeneration);
+
+        return accounts;
+    }
+
+    @Override
+    public void evict(String userId) {
+        evictLocal(userId);
+
+        if (redis != null) {
+            try {
+                redis.execute(
+                        EVICT,
+                        List.of(listKey(new Key(userId, false)), listKey(new Key(userId, true)), generationKey(userId)),
+                        EVICTION_CHANNEL,
+                        userId,
+                        String.valueOf(GENERATION_TTL.toMillis())
+                );
+            } catch (RuntimeException ex) {
+                sharedErrors.increment();
+                log.error("Could not evict the account lists of user {} from the shared cache", userId, ex);
+            }
+        }
+    }
+
+    // After completion rather than after commit: a list loaded inside the writing transaction holds its
+    // uncommitted accounts, which must go away if it rolls back. First, so the list is gone before the
+    // user's version changes and a read tags the stale list with the new version.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onAccountsChanged(AccountsChangedEvent event) {
+        evict(event.userId());
+
+        if (replicaMaxLag != null) {
+            taskScheduler.schedule(() -> evict(event.userId()), Instant.now().plus(replicaMaxLag));
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (evictionListener != null) {
+            evictionListener.destroy();
+        }
+    }
+
+    /**
+     * Stores the list, then takes it back out if the user's lists were evicted since the load started. An
+     * eviction racing with this either bumps the generation before the check, or invalidates after the put.
+     */
+    private void putLocal(Key key, List<AccountDTO> accounts, Long generation) {
+        local.put(key, accounts);
+
+        if (!Objects.equals(generation, localGenerations.getIfPresent(key.userId()))) {
+            local.invalidate(key);
+        }
+    }
+
+    private void evictLocal(String userId) {
+        localGenerations.asMap().merge(userId, 1L, Long::sum);
+        local.invalidate(new Key(userId, false));
+        local.invalidate(new Key(userId, true));
+    }
+
+    // The user id in braces keeps a user's keys on the same Redis Cluster slot, which the scripts need.
+    private static String listKey(Key key) {
+        return "moneytracker:accounts:{" + key.userId() + "}:" + (key.archived() ? "archived" : "active");
+    }
+
+    private static String generationKey(String userId) {
+        return "moneytracker:accounts:{" + userId + "}:generation";
+    }
+
+    private static Counter sharedCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("accounts.cache.shared")
+                .description("Lookups of account lists in the shared cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
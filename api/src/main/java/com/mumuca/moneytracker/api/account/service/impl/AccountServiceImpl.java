@@ -6,8 +6,10 @@ import com.mumuca.moneytracker.api.account.dto.EditAccountDTO;
 import com.mumuca.moneytracker.api.account.dto.WithdrawDTO;
 import com.mumuca.moneytracker.api.account.model.Account;
 import com.mumuca.moneytracker.api.account.repository.AccountRepository;
+import com.mumuca.moneytracker.api.account.service.AccountListCache;
 import com.mumuca.moneytracker.api.account.service.AccountService;
 import com.mumuca.moneytracker.api.auth.model.User;
+import com.mumuca.moneytracker.api.etag.UserVersions;
 import com.mumuca.moneytracker.api.exception.ResourceNotFoundException;
 import com.mumuca.moneytracker.api.model.Money;
 import lombok.AllArgsConstructor;
@@ -21,6 +23,8 @@ import java.util.List;
 public class AccountServiceImpl implements AccountService {
 
     private final AccountRepository accountRepository;
+    private final AccountListCache accountListCache;
+    private final UserVersions userVersions;
 
     @Override
     public AccountDTO createAccount(CreateAccountDTO createAccountDTO, String userId) {
@@ -34,6 +38,7 @@ public class AccountServiceImpl implements AccountService {
                 .build();
 
         accountRepository.save(account);
+        userVersions.bump(userId);
 
         return new AccountDTO(
                 account.getId(),
@@ -48,6 +53,7 @@ public class AccountServiceImpl implements AccountService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AccountDTO getAccount(String accountId, String userId) {
         Account account = accountRepository
                 .findByIdAndUserId(accountId, userId)
@@ -67,7 +73,8 @@ public class AccountServiceImpl implements AccountService {
 
     @Override
     public List<AccountDTO> listActiveAccounts(String userId) {
-        return accountRepository
+        // No transaction here, so a cache hit takes no connection. The repository call runs in its own.
+        return accountListCache.get(userId, false, () -> accountRepository
                 .findActiveAccountsByUserId(userId)
                 .stream()
                 .map(account -> new AccountDTO(
@@ -80,12 +87,12 @@ public class AccountServiceImpl implements AccountService {
                         account.getBalance().getCurrency(),
                         account.isArchived()
                 ))
-                .toList();
+                .toList());
     }
 
     @Override
     public List<AccountDTO> listArchivedAccounts(String userId) {
-        return accountRepository
+        return accountListCache.get(userId, true, () -> accountRepository
                 .findArchivedAccountsByUserId(userId)
                 .stream()
                 .map(account -> new AccountDTO(
@@ -98,7 +105,7 @@ public class AccountServiceImpl implements AccountService {
                         account.getBalance().getCurrency(),
                         account.isArchived()
                 ))
-                .toList();
+                .toList());
     }
 
     @Override
@@ -111,6 +118,7 @@ public class AccountServiceImpl implements AccountService {
         accountToArchive.archive();
 
         accountRepository.save(accountToArchive);
+        userVersions.bump(userId);
     }
 
     @Override
@@ -123,6 +131,7 @@ public class AccountServiceImpl implements AccountService {
         accountToActive.unarchive();
 
         accountRepository.save(accountToActive);
+        userVersions.bump(userId);
     }
 
     @Override
@@ -132,6 +141,7 @@ public class AccountServiceImpl implements AccountService {
                 .orElseThrow(() -> new ResourceNotFoundException("Account not found."));
 
         accountRepository.deleteById(accountToDelete.getId());
+        userVersions.bump(userId);
     }
 
     @Override
@@ -148,6 +158,7 @@ public class AccountServiceImpl implements AccountService {
         accountToEdit.getBalance().setCurrency(editAccountDTO.currency());
 
         accountRepository.save(accountToEdit);
+        userVersions.bump(userId);
 
         return new AccountDTO(
                 accountToEdit.getId(),
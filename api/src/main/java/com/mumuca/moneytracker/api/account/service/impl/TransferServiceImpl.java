@@ -12,13 +12,17 @@ import com.mumuca.moneytracker.api.account.repository.TransferRepository;
 import com.mumuca.moneytracker.api.account.repository.specification.TransferSpecification;
 import com.mumuca.moneytracker.api.account.service.TransferService;
 import com.mumuca.moneytracker.api.auth.model.User;
+import com.mumuca.moneytracker.api.etag.UserVersions;
 import com.mumuca.moneytracker.api.exception.ResourceIsArchivedException;
 import com.mumuca.moneytracker.api.exception.ResourceNotFoundException;
+import com.mumuca.moneytracker.api.jfr.BalanceMutatedEvent;
+import com.mumuca.moneytracker.api.jfr.TransferPaidEvent;
+import com.mumuca.moneytracker.api.jfr.TransferRegisteredEvent;
 import com.mumuca.moneytracker.api.model.Money;
 import com.mumuca.moneytracker.api.providers.CurrencyProvider;
 import com.mumuca.moneytracker.api.providers.DateProvider;
-import lombok.AllArgsConstructor;
-
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -29,14 +33,9 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
-@AllArgsConstructor
 public class TransferServiceImpl implements TransferService {
 
     private final TransferRepository transferRepository;
@@ -44,8 +43,67 @@ public class TransferServiceImpl implements TransferService {
     private final RecurrenceRepository recurrenceRepository;
     private final CurrencyProvider currencyProvider;
     private final DateProvider dateProvider;
+    private final UserVersions userVersions;
+
+    private final Counter uniqueInstallmentsCreated;
+    private final Counter repeatedInstallmentsCreated;
+    private final Counter pays;
+    private final Counter unpays;
+    private final Counter sourceConversions;
+    private final Counter destinationConversions;
+
+    public TransferServiceImpl(
+            TransferRepository transferRepository,
+            AccountRepository accountRepository,
+            RecurrenceRepository recurrenceRepository,
+            CurrencyProvider currencyProvider,
+            DateProvider dateProvider,
+            UserVersions userVersions,
+            MeterRegistry meterRegistry
+    ) {
+        this.transferRepository = transferRepository;
+        this.accountRepository = accountRepository;
+        this.recurrenceRepository = recurrenceRepository;
+        this.currencyProvider = currencyProvider;
+        this.dateProvider = dateProvider;
+        this.userVersions = userVersions;
+
+        this.uniqueInstallmentsCreated = installmentsCreated(meterRegistry, RecurrenceType.UNIQUE);
+        this.repeatedInstallmentsCreated = installmentsCreated(meterRegistry, RecurrenceType.REPEATED);
+        this.pays = Counter.builder("transfers.payments")
+                .description("Transfers marked as paid or unpaid")
+                .tag("action", "pay")
+                .register(meterRegistry);
+        this.unpays = Counter.builder("transfers.payments")
+                .description("Transfers marked as paid or unpaid")
+                .tag("action", "unpay")
+                .register(meterRegistry);
+        this.sourceConversions = currencyConversions(meterRegistry, "source");
+        this.destinationConversions = currencyConversions(meterRegistry, "destination");
+    }
+
+    private static Counter installmentsCreated(MeterRegistry meterRegistry, RecurrenceType recurrenceType) {
+        return Counter.builder("transfers.installments.registered")
+                .description("Transfer installments registered")
+                .tag("recurrence_type", recurrenceType.name().toLowerCase())
+                .register(meterRegistry);
+    }
 
-    private void handleCurrencyConversions(
+    private static Counter currencyConversions(MeterRegistry meterRegistry, String side) {
+        return Counter.builder("transfers.currency.conversions")
+                .description("Transfer amounts converted into the currency of the account they move")
+                .tag("account", side)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Which accounts of a transfer hold a currency other than the transfer's, and so had their side converted.
+     */
+    enum ConversionPath {
+        NONE, SOURCE, DESTINATION, BOTH
+    }
+
+    ConversionPath handleCurrencyConversions(
         Transfer transfer,
         Account sourceAccount,
         Account destinationAccount
@@ -56,172 +114,214 @@ public class TransferServiceImpl implements TransferService {
         boolean destinationAccountCurrencyMatchesTransferCurrency =
                 destinationAccount.getBalance().equals(transfer.getValue());
 
-        if (sourceAccountCurrencyMatchesTransferCurrency && destinationAccountCurrencyMatchesTransferCurrency) {
-            sourceAccount.withdraw(transfer.getValue());
-            destinationAccount.deposit(transfer.getValue());
-        }
-
-        if (sourceAccountCurrencyMatchesTransferCurrency && !destinationAccountCurrencyMatchesTransferCurrency) {
-            BigDecimal convertedAmountToAdd = this.currencyProvider.convertCurrency(
-                    transfer.getValue().getAmount(),
-                    transfer.getValue().getCurrency(),
-                    destinationAccount.getBalance().getCurrency()
-            );
+        BalanceMutatedEvent withdrawal = new BalanceMutatedEvent();
+        withdrawal.begin();
 
-            sourceAccount.withdraw(transfer.getValue());
-            destinationAccount.deposit(convertedAmountToAdd);
-        }
+        BigDecimal amountToSubtract = transfer.getValue().getAmount();
 
-        if (!sourceAccountCurrencyMatchesTransferCurrency && destinationAccountCurrencyMatchesTransferCurrency) {
-            BigDecimal convertedAmountToSubtract = this.currencyProvider.convertCurrency(
+        if (!sourceAccountCurrencyMatchesTransferCurrency) {
+            amountToSubtract = this.currencyProvider.convertCurrency(
                     transfer.getValue().getAmount(),
                     transfer.getValue().getCurrency(),
                     sourceAccount.getBalance().getCurrency()
             );
-
-            sourceAccount.withdraw(convertedAmountToSubtract);
-            destinationAccount.deposit(transfer.getValue());
+            sourceConversions.increment();
         }
 
-        if (!sourceAccountCurrencyMatchesTransferCurrency && !destinationAccountCurrencyMatchesTransferCurrency) {
-            BigDecimal convertedAmountToSubtract = this.currencyProvider.convertCurrency(
-                    transfer.getValue().getAmount(),
-                    transfer.getValue().getCurrency(),
-                    sourceAccount.getBalance().getCurrency()
-            );
+        sourceAccount.withdraw(amountToSubtract);
+        commitBalanceMutation(
+                withdrawal,
+                sourceAccount,
+                BalanceMutatedEvent.WITHDRAWAL,
+                amountToSubtract,
+                !sourceAccountCurrencyMatchesTransferCurrency
+        );
+
+        BalanceMutatedEvent deposit = new BalanceMutatedEvent();
+        deposit.begin();
 
-            BigDecimal convertedAmountToAdd = this.currencyProvider.convertCurrency(
+        BigDecimal amountToAdd = transfer.getValue().getAmount();
+
+        if (!destinationAccountCurrencyMatchesTransferCurrency) {
+            amountToAdd = this.currencyProvider.convertCurrency(
                     transfer.getValue().getAmount(),
                     transfer.getValue().getCurrency(),
                     destinationAccount.getBalance().getCurrency()
             );
-
-            sourceAccount.withdraw(convertedAmountToSubtract);
-            destinationAccount.deposit(convertedAmountToAdd);
+            destinationConversions.increment();
         }
-    }
 
-    @Override
-    @Transactional
-    public RecurrenceDTO<TransferDTO> registerUniqueTransfer(
-            RegisterUniqueTransferDTO registerUniqueTransferDTO,
-            String userId
-    ) {
-        try (ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
-            CompletableFuture<Account> sourceAccountFuture = CompletableFuture.supplyAsync(() ->
-                            accountRepository.findByIdAndUserId(registerUniqueTransferDTO.fromAccount(), userId)
-                                    .orElseThrow(() -> new ResourceNotFoundException("Source Account not found.")),
-                    virtualThreadExecutor
-            );
-
-            CompletableFuture<Account> destinationAccountFuture = CompletableFuture.supplyAsync(() ->
-                            accountRepository.findByIdAndUserId(registerUniqueTransferDTO.toAccount(), userId)
-                                    .orElseThrow(() -> new ResourceNotFoundException("Destination Account not found.")),
-                    virtualThreadExecutor
-            );
-
-            Account sourceAccount = sourceAccountFuture.join();
-            Account destinationAccount = destinationAccountFuture.join();
+        destinationAccount.deposit(amountToAdd);
+        commitBalanceMutation(
+                deposit,
+                destinationAccount,
+                BalanceMutatedEvent.DEPOSIT,
+                amountToAdd,
+                !destinationAccountCurrencyMatchesTransferCurrency
+        );
 
-            if (sourceAccount.isArchived()) {
-                throw new ResourceIsArchivedException("Source Account is archived.");
-            }
+        if (sourceAccountCurrencyMatchesTransferCurrency) {
+            return destinationAccountCurrencyMatchesTransferCurrency ? ConversionPath.NONE : ConversionPath.DESTINATION;
+        }
 
-            if (destinationAccount.isArchived()) {
-                throw new ResourceIsArchivedException("Destination Account is archived.");
-            }
+        return destinationAccountCurrencyMatchesTransferCurrency ? ConversionPath.SOURCE : ConversionPath.BOTH;
+    }
 
-            Recurrence recurrence = Recurrence.builder()
-                    .firstOccurrence(registerUniqueTransferDTO.billingDate())
-                    .interval(RecurrenceInterval.MONTHLY)
-                    .transactionType(TransactionType.TRANSFER)
-                    .recurrenceType(RecurrenceType.UNIQUE)
-                    .user(new User(userId))
-                    .build();
+    private static void commitBalanceMutation(
+            BalanceMutatedEvent event,
+            Account account,
+            String mutation,
+            BigDecimal amount,
+            boolean converted
+    ) {
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setAccountId(account.getId());
+            event.setMutation(mutation);
+            event.setAmount(amount.toPlainString());
+            event.setCurrency(account.getBalance().getCurrency());
+            event.setConverted(converted);
+            event.commit();
+        }
+    }
 
-            recurrenceRepository.save(recurrence);
+    private static void commitTransferRegistered(
+            TransferRegisteredEvent event,
+            Recurrence recurrence,
+            int installments,
+            boolean paid
+    ) {
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setRecurrenceId(recurrence.getId());
+            event.setRecurrenceType(recurrence.getRecurrenceType().name());
+            event.setRecurrenceInterval(recurrence.getInterval().name());
+            event.setInstallments(installments);
+            event.setPaid(paid);
+            event.commit();
+        }
+    }
 
-            Money transferValue = new Money(registerUniqueTransferDTO.amount(), registerUniqueTransferDTO.currency());
+    private static void commitTransferPaid(
+            TransferPaidEvent event,
+            Transfer transfer,
+            String action,
+            ConversionPath conversionPath
+    ) {
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setTransferId(transfer.getId());
+            event.setAction(action);
+            event.setConversionPath(conversionPath.name());
+            event.setCurrency(transfer.getValue().getCurrency());
+            event.commit();
+        }
+    }
 
-            Transfer transfer = Transfer.builder()
-                    .title(registerUniqueTransferDTO.title())
-                    .description(registerUniqueTransferDTO.description())
-                    .sourceAccount(sourceAccount)
-                    .destinationAccount(destinationAccount)
-                    .value(transferValue)
-                    .billingDate(registerUniqueTransferDTO.billingDate())
-                    .installmentIndex(1)
-                    .paid(registerUniqueTransferDTO.paidDate())
-                    .recurrence(recurrence)
-                    .build();
+    static AccountDTO toAccountDTO(Account account) {
+        return new AccountDTO(
+                account.getId(),
+                account.getName(),
+                account.getColor(),
+                account.getIcon(),
+                account.getType(),
+                account.getBalance().getAmount(),
+                account.getBalance().getCurrency(),
+                account.isArchived()
+        );
+    }
 
-            transferRepository.save(transfer);
+    static TransferDTO toTransferDTO(Transfer transfer, int installments) {
+        return new TransferDTO(
+                transfer.getId(),
+                transfer.getTitle(),
+                transfer.getDescription(),
+                toAccountDTO(transfer.getSourceAccount()),
+                toAccountDTO(transfer.getDestinationAccount()),
+                transfer.getValue().getAmount(),
+                transfer.getValue().getCurrency(),
+                transfer.getBillingDate(),
+                transfer.isPaid(),
+                transfer.getPaid(),
+                transfer.getInstallmentIndex(),
+                installments,
+                transfer.getRecurrence().getId()
+        );
+    }
 
-            boolean transferIsPaid = registerUniqueTransferDTO.paidDate() != null;
+    @Override
+    @Transactional
+    public RecurrenceDTO<TransferDTO> registerUniqueTransfer(
+            RegisterUniqueTransferDTO registerUniqueTransferDTO,
+            String userId
+    ) {
+        TransferRegisteredEvent event = new TransferRegisteredEvent();
+        event.begin();
 
-            if (transferIsPaid) {
-                handleCurrencyConversions(transfer, sourceAccount, destinationAccount);
-            }
+        // Both lookups run on the transaction's connection. Fanning them out to other threads took two more
+        // pool connections while this one was held, which can starve the pool under load.
+        Account sourceAccount = accountRepository.findByIdAndUserId(registerUniqueTransferDTO.fromAccount(), userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Source Account not found."));
 
-            accountRepository.saveAll(List.of(sourceAccount, destinationAccount));
-
-            AccountDTO sourceAccountDTO = new AccountDTO(
-                    sourceAccount.getId(),
-                    sourceAccount.getName(),
-                    sourceAccount.getColor(),
-                    sourceAccount.getIcon(),
-                    sourceAccount.getType(),
-                    sourceAccount.getBalance().getAmount(),
-                    sourceAccount.getBalance().getCurrency(),
-                    sourceAccount.isArchived()
-            );
+        Account destinationAccount = accountRepository.findByIdAndUserId(registerUniqueTransferDTO.toAccount(), userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Destination Account not found."));
 
-            AccountDTO destinationAccountDTO = new AccountDTO(
-                    destinationAccount.getId(),
-                    destinationAccount.getName(),
-                    destinationAccount.getColor(),
-                    destinationAccount.getIcon(),
-                    destinationAccount.getType(),
-                    destinationAccount.getBalance().getAmount(),
-                    destinationAccount.getBalance().getCurrency(),
-                    destinationAccount.isArchived()
-            );
+        if (sourceAccount.isArchived()) {
+            throw new ResourceIsArchivedException("Source Account is archived.");
+        }
 
-            return new RecurrenceDTO<TransferDTO>(
-                    recurrence.getId(),
-                    recurrence.getInterval(),
-                    recurrence.getFirstOccurrence(),
-                    recurrence.getTransactionType(),
-                    recurrence.getRecurrenceType(),
-                    List.of(new TransferDTO(
-                            transfer.getId(),
-                            transfer.getTitle(),
-                            transfer.getDescription(),
-                            sourceAccountDTO,
-                            destinationAccountDTO,
-                            transfer.getValue().getAmount(),
-                            transfer.getValue().getCurrency(),
-                            transfer.getBillingDate(),
-                            transfer.isPaid(),
-                            transfer.getPaid(),
-                            1,
-                            1,
-                            transfer.getRecurrence().getId()
-                    ))
-            );
-        } catch (CompletionException e) {
-            Throwable cause = e.getCause();
+        if (destinationAccount.isArchived()) {
+            throw new ResourceIsArchivedException("Destination Account is archived.");
+        }
 
-            if (cause instanceof ResourceNotFoundException) {
-                throw (ResourceNotFoundException) cause;
-            }
+        Recurrence recurrence = Recurrence.builder()
+                .firstOccurrence(registerUniqueTransferDTO.billingDate())
+                .interval(RecurrenceInterval.MONTHLY)
+                .transactionType(TransactionType.TRANSFER)
+                .recurrenceType(RecurrenceType.UNIQUE)
+                .user(new User(userId))
+                .build();
+
+        recurrenceRepository.save(recurrence);
+
+        Money transferValue = new Money(registerUniqueTransferDTO.amount(), registerUniqueTransferDTO.currency());
+
+        Transfer transfer = Transfer.builder()
+                .title(registerUniqueTransferDTO.title())
+                .description(registerUniqueTransferDTO.description())
+                .sourceAccount(sourceAccount)
+                .destinationAccount(destinationAccount)
+                .value(transferValue)
+                .billingDate(registerUniqueTransferDTO.billingDate())
+                .installmentIndex(1)
+                .paid(registerUniqueTransferDTO.paidDate())
+                .recurrence(recurrence)
+                .build();
+
+        transferRepository.save(transfer);
+        uniqueInstallmentsCreated.increment();
+
+        boolean transferIsPaid = registerUniqueTransferDTO.paidDate() != null;
+
+        if (transferIsPaid) {
+            handleCurrencyConversions(transfer, sourceAccount, destinationAccount);
+        }
 
-            if (cause instanceof ResourceIsArchivedException) {
-                throw (ResourceIsArchivedException) cause;
-            }
+        accountRepository.saveAll(List.of(sourceAccount, destinationAccount));
+        userVersions.bump(userId);
+        commitTransferRegistered(event, recurrence, 1, transferIsPaid);
 
-            throw new RuntimeException("An error occurred while registering an unique transfer: ", e);
-        }
+        return new RecurrenceDTO<TransferDTO>(
+                recurrence.getId(),
+                recurrence.getInterval(),
+                recurrence.getFirstOccurrence(),
+                recurrence.getTransactionType(),
+                recurrence.getRecurrenceType(),
+                List.of(toTransferDTO(transfer, 1))
+        );
     }
 
     @Override
@@ -230,144 +330,93 @@ public class TransferServiceImpl implements TransferService {
             RegisterRepeatedTransferDTO registerRepeatedTransferDTO,
             String userId
     ) {
-        try (ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
-            CompletableFuture<Account> sourceAccountFuture = CompletableFuture.supplyAsync(() ->
-                            accountRepository.findByIdAndUserId(registerRepeatedTransferDTO.fromAccount(), userId)
-                                    .orElseThrow(() -> new ResourceNotFoundException("Source Account not found.")),
-                    virtualThreadExecutor
-            );
-
-            CompletableFuture<Account> destinationAccountFuture = CompletableFuture.supplyAsync(() ->
-                            accountRepository.findByIdAndUserId(registerRepeatedTransferDTO.toAccount(), userId)
-                                    .orElseThrow(() -> new ResourceNotFoundException("Destination Account not found.")),
-                    virtualThreadExecutor
-            );
-
-            Account sourceAccount = sourceAccountFuture.join();
-            Account destinationAccount = destinationAccountFuture.join();
-
-            if (sourceAccount.isArchived()) {
-                throw new ResourceIsArchivedException("Source Account is archived.");
-            }
-
-            if (destinationAccount.isArchived()) {
-                throw new ResourceIsArchivedException("Destination Account is archived.");
-            }
+        TransferRegisteredEvent event = new TransferRegisteredEvent();
+        event.begin();
 
-            Recurrence recurrence = Recurrence.builder()
-                    .firstOccurrence(registerRepeatedTransferDTO.billingDate())
-                    .interval(registerRepeatedTransferDTO.recurrenceInterval())
-                    .transactionType(TransactionType.TRANSFER)
-                    .recurrenceType(RecurrenceType.REPEATED)
-                    .user(new User(userId))
-                    .build();
+        // Both lookups run on the transaction's connection. Fanning them out to other threads took two more
+        // pool connections while this one was held, which can starve the pool under load.
+        Account sourceAccount = accountRepository.findByIdAndUserId(registerRepeatedTransferDTO.fromAccount(), userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Source Account not found."));
 
-            recurrenceRepository.save(recurrence);
+        Account destinationAccount = accountRepository.findByIdAndUserId(registerRepeatedTransferDTO.toAccount(), userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Destination Account not found."));
 
-            List<LocalDate> billingDates = dateProvider.generateDates(
-                    registerRepeatedTransferDTO.billingDate(),
-                    registerRepeatedTransferDTO.recurrenceInterval(),
-                    registerRepeatedTransferDTO.numberOfRecurrences()
-            );
+        if (sourceAccount.isArchived()) {
+            throw new ResourceIsArchivedException("Source Account is archived.");
+        }
 
+        if (destinationAccount.isArchived()) {
+            throw new ResourceIsArchivedException("Destination Account is archived.");
+        }
 
-            AtomicInteger index = new AtomicInteger(1);
+        Recurrence recurrence = Recurrence.builder()
+                .firstOccurrence(registerRepeatedTransferDTO.billingDate())
+                .interval(registerRepeatedTransferDTO.recurrenceInterval())
+                .transactionType(TransactionType.TRANSFER)
+                .recurrenceType(RecurrenceType.REPEATED)
+                .user(new User(userId))
+                .build();
 
-            List<Transfer> transfers = billingDates
-                    .stream()
-                    .map((billingDate) -> {
-                        Money transferValue = new Money(registerRepeatedTransferDTO.amount(), registerRepeatedTransferDTO.currency());
+        recurrenceRepository.save(recurrence);
 
-                        var paidDate = registerRepeatedTransferDTO.billingDate().equals(billingDate) ? registerRepeatedTransferDTO.paidDate() : null;
+        List<LocalDate> billingDates = dateProvider.generateDates(
+                registerRepeatedTransferDTO.billingDate(),
+                registerRepeatedTransferDTO.recurrenceInterval(),
+                registerRepeatedTransferDTO.numberOfRecurrences()
+        );
 
-                        return Transfer.builder()
-                                .title(registerRepeatedTransferDTO.title())
-                                .description(registerRepeatedTransferDTO.description())
-                                .sourceAccount(sourceAccount)
-                                .destinationAccount(destinationAccount)
-                                .value(transferValue)
-                                .billingDate(billingDate)
-                                .installmentIndex(index.getAndIncrement())
-                                .paid(paidDate)
-                                .recurrence(recurrence)
-                                .build();
-                    })
-                    .toList();
 
-            transferRepository.saveAll(transfers);
+        AtomicInteger index = new AtomicInteger(1);
 
-            boolean transferIsPaid = registerRepeatedTransferDTO.paidDate() != null;
+        List<Transfer> transfers = billingDates
+                .stream()
+                .map((billingDate) -> {
+                    Money transferValue = new Money(registerRepeatedTransferDTO.amount(), registerRepeatedTransferDTO.currency());
 
-            if (transferIsPaid) {
-                handleCurrencyConversions(transfers.getFirst(), sourceAccount, destinationAccount);
-            }
+                    var paidDate = registerRepeatedTransferDTO.billingDate().equals(billingDate) ? registerRepeatedTransferDTO.paidDate() : null;
 
-            accountRepository.saveAll(List.of(sourceAccount, destinationAccount));
-
-            AccountDTO sourceAccountDTO = new AccountDTO(
-                    sourceAccount.getId(),
-                    sourceAccount.getName(),
-                    sourceAccount.getColor(),
-                    sourceAccount.getIcon(),
-                    sourceAccount.getType(),
-                    sourceAccount.getBalance().getAmount(),
-                    sourceAccount.getBalance().getCurrency(),
-                    sourceAccount.isArchived()
-            );
+                    return Transfer.builder()
+                            .title(registerRepeatedTransferDTO.title())
+                            .description(registerRepeatedTransferDTO.description())
+                            .sourceAccount(sourceAccount)
+                            .destinationAccount(destinationAccount)
+                            .value(transferValue)
+                            .billingDate(billingDate)
+                            .installmentIndex(index.getAndIncrement())
+                            .paid(paidDate)
+                            .recurrence(recurrence)
+                            .build();
+                })
+                .toList();
 
-            AccountDTO destinationAccountDTO = new AccountDTO(
-                    destinationAccount.getId(),
-                    destinationAccount.getName(),
-                    destinationAccount.getColor(),
-                    destinationAccount.getIcon(),
-                    destinationAccount.getType(),
-                    destinationAccount.getBalance().getAmount(),
-                    destinationAccount.getBalance().getCurrency(),
-                    destinationAccount.isArchived()
-            );
+        transferRepository.saveAll(transfers);
+        repeatedInstallmentsCreated.increment(transfers.size());
 
-            return new RecurrenceDTO<TransferDTO>(
-                    recurrence.getId(),
-                    recurrence.getInterval(),
-                    recurrence.getFirstOccurrence(),
-                    recurrence.getTransactionType(),
-                    recurrence.getRecurrenceType(),
-                    transfers
-                            .stream()
-                            .map((transfer) -> new TransferDTO(
-                                    transfer.getId(),
-                                    transfer.getTitle(),
-                                    transfer.getDescription(),
-                                    sourceAccountDTO,
-                                    destinationAccountDTO,
-                                    transfer.getValue().getAmount(),
-                                    transfer.getValue().getCurrency(),
-                                    transfer.getBillingDate(),
-                                    transfer.isPaid(),
-                                    transfer.getPaid(),
-                                    transfer.getInstallmentIndex(),
-                                    transfers.size(),
-                                    transfer.getRecurrence().getId()
-                            ))
-                            .toList()
-            );
-        } catch (CompletionException e) {
-            Throwable cause = e.getCause();
+        boolean transferIsPaid = registerRepeatedTransferDTO.paidDate() != null;
 
-            if (cause instanceof ResourceNotFoundException) {
-                throw (ResourceNotFoundException) cause;
-            }
+        if (transferIsPaid) {
+            handleCurrencyConversions(transfers.getFirst(), sourceAccount, destinationAccount);
+        }
 
-            if (cause instanceof ResourceIsArchivedException) {
-                throw (ResourceIsArchivedException) cause;
-            }
+        accountRepository.saveAll(List.of(sourceAccount, destinationAccount));
+        userVersions.bump(userId);
+        commitTransferRegistered(event, recurrence, transfers.size(), transferIsPaid);
 
-            throw new RuntimeException("An error occurred while registering an unique transfer: ", e);
-        }
+        return new RecurrenceDTO<TransferDTO>(
+                recurrence.getId(),
+                recurrence.getInterval(),
+                recurrence.getFirstOccurrence(),
+                recurrence.getTransactionType(),
+                recurrence.getRecurrenceType(),
+                transfers
+                        .stream()
+                        .map((transfer) -> toTransferDTO(transfer, transfers.size()))
+                        .toList()
+        );
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public RecurrenceDTO<TransferDTO> getTransfer(String transferId, String userId) {
         Transfer transfer = transferRepository
                 .findTransferWithRecurrenceByIdAndUserId(transferId, userId)
@@ -381,47 +430,7 @@ public class TransferServiceImpl implements TransferService {
             transferInstallments = transferRepository.countTransfersByRecurrenceId(recurrence.getId());
         }
 
-        Account sourceAccount = transfer.getSourceAccount();
-
-        AccountDTO sourceAccountDTO = new AccountDTO(
-                sourceAccount.getId(),
-                sourceAccount.getName(),
-                sourceAccount.getColor(),
-                sourceAccount.getIcon(),
-                sourceAccount.getType(),
-                sourceAccount.getBalance().getAmount(),
-                sourceAccount.getBalance().getCurrency(),
-                sourceAccount.isArchived()
-        );
-
-        Account destinationAccount = transfer.getDestinationAccount();
-
-        AccountDTO destinationAccountDTO = new AccountDTO(
-                destinationAccount.getId(),
-                destinationAccount.getName(),
-                destinationAccount.getColor(),
-                destinationAccount.getIcon(),
-                destinationAccount.getType(),
-                destinationAccount.getBalance().getAmount(),
-                destinationAccount.getBalance().getCurrency(),
-                destinationAccount.isArchived()
-        );
-
-        TransferDTO transferDTO = new TransferDTO(
-                transfer.getId(),
-                transfer.getTitle(),
-                transfer.getDescription(),
-                sourceAccountDTO,
-                destinationAccountDTO,
-                transfer.getValue().getAmount(),
-                transfer.getValue().getCurrency(),
-                transfer.getBillingDate(),
-                transfer.isPaid(),
-                transfer.getPaid(),
-                transfer.getInstallmentIndex(),
-                transferInstallments,
-                transfer.getRecurrence().getId()
-        );
+        TransferDTO transferDTO = toTransferDTO(transfer, transferInstallments);
 
         return new RecurrenceDTO<TransferDTO>(
                 recurrence.getId(),
@@ -453,48 +462,7 @@ public class TransferServiceImpl implements TransferService {
 
                     int totalTransfers = transferRepository.countTransfersByRecurrenceId(recurrence.getId());
 
-                    Account sourceAccount = transfer.getSourceAccount();
-
-                    AccountDTO sourceAccountDTO = new AccountDTO(
-                            sourceAccount.getId(),
-                            sourceAccount.getName(),
-                            sourceAccount.getColor(),
-                            sourceAccount.getIcon(),
-                            sourceAccount.getType(),
-                            sourceAccount.getBalance().getAmount(),
-                            sourceAccount.getBalance().getCurrency(),
-                            sourceAccount.isArchived()
-                    );
-
-                    Account destinationAccount = transfer.getDestinationAccount();
-
-                    AccountDTO destinationAccountDTO = new AccountDTO(
-                            destinationAccount.getId(),
-                            destinationAccount.getName(),
-                            destinationAccount.getColor(),
-                            destinationAccount.getIcon(),
-                            destinationAccount.getType(),
-                            destinationAccount.getBalance().getAmount(),
-                            destinationAccount.getBalance().getCurrency(),
-                            destinationAccount.isArchived()
-                    );
-
-                    TransferDTO transferDTO = new TransferDTO(
-                            transfer.getId(),
-                            transfer.getTitle(),
-                            transfer.getDescription(),
-                            sourceAccountDTO,
-                            destinationAccountDTO,
-                            transfer.getValue().getAmount(),
-                            transfer.getValue().getCurrency(),
-                            transfer.getBillingDate(),
-                            transfer.isPaid(),
-                            transfer.getPaid(),
-                            transfer.getInstallmentIndex(),
-                            totalTransfers,
-                            transfer.getRecurrence().getId()
-                    );
-
+                    TransferDTO transferDTO = toTransferDTO(transfer, totalTransfers);
 
                     return new RecurrenceDTO<TransferDTO>(
                             recurrence.getId(),
@@ -510,6 +478,9 @@ public class TransferServiceImpl implements TransferService {
     @Override
     @Transactional
     public RecurrenceDTO<TransferDTO> payTransfer(String transferId, PayTransferDTO payTransferDTO, String userId) {
+        TransferPaidEvent event = new TransferPaidEvent();
+        event.begin();
+
         String accountId = payTransferDTO.accountId();
 
         Transfer transferToPay = transferRepository
@@ -543,7 +514,7 @@ public class TransferServiceImpl implements TransferService {
             throw new ResourceIsArchivedException("Unable to pay transfer if source account is archived.");
         }
 
-        handleCurrencyConversions(transferToPay, accountToPay, accountToBePaid);
+        ConversionPath conversionPath = handleCurrencyConversions(transferToPay, accountToPay, accountToBePaid);
 
         transferToPay.setSourceAccount(accountToPay);
 
@@ -552,30 +523,11 @@ public class TransferServiceImpl implements TransferService {
         transferToPay.setPaid(paidAt);
 
         transferRepository.save(transferToPay);
+        pays.increment();
 
         accountRepository.saveAll(List.of(accountToPay, accountToBePaid));
-
-        AccountDTO sourceAccountDTO = new AccountDTO(
-                accountToPay.getId(),
-                accountToPay.getName(),
-                accountToPay.getColor(),
-                accountToPay.getIcon(),
-                accountToPay.getType(),
-                accountToPay.getBalance().getAmount(),
-                accountToPay.getBalance().getCurrency(),
-                accountToPay.isArchived()
-        );
-
-        AccountDTO destinationAccountDTO = new AccountDTO(
-                accountToBePaid.getId(),
-                accountToBePaid.getName(),
-                accountToBePaid.getColor(),
-                accountToBePaid.getIcon(),
-                accountToBePaid.getType(),
-                accountToBePaid.getBalance().getAmount(),
-                accountToBePaid.getBalance().getCurrency(),
-                accountToBePaid.isArchived()
-        );
+        userVersions.bump(userId);
+        commitTransferPaid(event, transferToPay, TransferPaidEvent.PAY, conversionPath);
 
         Recurrence recurrence = transferToPay.getRecurrence();
 
@@ -585,21 +537,7 @@ public class TransferServiceImpl implements TransferService {
             installmentsNumber = transferRepository.countTransfersByRecurrenceId(recurrence.getId());
         }
 
-        TransferDTO transferDTO = new TransferDTO(
-                transferToPay.getId(),
-                transferToPay.getTitle(),
-                transferToPay.getDescription(),
-                sourceAccountDTO,
-                destinationAccountDTO,
-                transferToPay.getValue().getAmount(),
-                transferToPay.getValue().getCurrency(),
-                transferToPay.getBillingDate(),
-                transferToPay.isPaid(),
-                transferToPay.getPaid(),
-                transferToPay.getInstallmentIndex(),
-                installmentsNumber,
-                transferToPay.getRecurrence().getId()
-        );
+        TransferDTO transferDTO = toTransferDTO(transferToPay, installmentsNumber);
 
         return new RecurrenceDTO<TransferDTO>(
                 recurrence.getId(),
@@ -614,6 +552,9 @@ public class TransferServiceImpl implements TransferService {
     @Override
     @Transactional
     public RecurrenceDTO<TransferDTO> unpayTransfer(String transferId, String userId) {
+        TransferPaidEvent event = new TransferPaidEvent();
+        event.begin();
+
         Transfer transferToUnpay = transferRepository
                 .findTransferWithRecurrenceByIdAndUserId(transferId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Transfer not found."));
@@ -634,35 +575,16 @@ public class TransferServiceImpl implements TransferService {
             throw new InvalidTransferDestinationException("Transfer Destination Account not found.");
         }
 
-        handleCurrencyConversions(transferToUnpay, accountToWithdraw, accountToDeposit);
+        ConversionPath conversionPath = handleCurrencyConversions(transferToUnpay, accountToWithdraw, accountToDeposit);
 
         transferToUnpay.setPaid(null);
 
         transferRepository.save(transferToUnpay);
+        unpays.increment();
 
         accountRepository.saveAll(List.of(accountToWithdraw, accountToDeposit));
-
-        AccountDTO sourceAccountDTO = new AccountDTO(
-                accountToDeposit.getId(),
-                accountToDeposit.getName(),
-                accountToDeposit.getColor(),
-                accountToDeposit.getIcon(),
-                accountToDeposit.getType(),
-                accountToDeposit.getBalance().getAmount(),
-                accountToDeposit.getBalance().getCurrency(),
-                accountToDeposit.isArchived()
-        );
-
-        AccountDTO destinationAccountDTO = new AccountDTO(
-                accountToWithdraw.getId(),
-                accountToWithdraw.getName(),
-                accountToWithdraw.getColor(),
-                accountToWithdraw.getIcon(),
-                accountToWithdraw.getType(),
-                accountToWithdraw.getBalance().getAmount(),
-                accountToWithdraw.getBalance().getCurrency(),
-                accountToWithdraw.isArchived()
-        );
+        userVersions.bump(userId);
+        commitTransferPaid(event, transferToUnpay, TransferPaidEvent.UNPAY, conversionPath);
 
         Recurrence recurrence = transferToUnpay.getRecurrence();
 
@@ -672,21 +594,7 @@ public class TransferServiceImpl implements TransferService {
             installmentsNumber = transferRepository.countTransfersByRecurrenceId(recurrence.getId());
         }
 
-        TransferDTO transferDTO = new TransferDTO(
-                transferToUnpay.getId(),
-                transferToUnpay.getTitle(),
-                transferToUnpay.getDescription(),
-                sourceAccountDTO,
-                destinationAccountDTO,
-                transferToUnpay.getValue().getAmount(),
-                transferToUnpay.getValue().getCurrency(),
-                transferToUnpay.getBillingDate(),
-                transferToUnpay.isPaid(),
-                transferToUnpay.getPaid(),
-                transferToUnpay.getInstallmentIndex(),
-                installmentsNumber,
-                transferToUnpay.getRecurrence().getId()
-        );
+        TransferDTO transferDTO = toTransferDTO(transferToUnpay, installmentsNumber);
 
         return new RecurrenceDTO<TransferDTO>(
                 recurrence.getId(),
@@ -748,6 +656,7 @@ public class TransferServiceImpl implements TransferService {
         }
 
         transferRepository.save(transferToUpdate);
+        userVersions.bump(userId);
 
         Recurrence recurrence = transferToUpdate.getRecurrence();
 
@@ -757,47 +666,7 @@ public class TransferServiceImpl implements TransferService {
             transferInstallments = transferRepository.countTransfersByRecurrenceId(recurrence.getId());
         }
 
-        Account sourceAccount = transferToUpdate.getSourceAccount();
-
-        AccountDTO sourceAccountDTO = new AccountDTO(
-                sourceAccount.getId(),
-                sourceAccount.getName(),
-                sourceAccount.getColor(),
-                sourceAccount.getIcon(),
-                sourceAccount.getType(),
-                sourceAccount.getBalance().getAmount(),
-                sourceAccount.getBalance().getCurrency(),
-                sourceAccount.isArchived()
-        );
-
-        Account destinationAccount = transferToUpdate.getDestinationAccount();
-
-        AccountDTO destinationAccountDTO = new AccountDTO(
-                destinationAccount.getId(),
-                destinationAccount.getName(),
-                destinationAccount.getColor(),
-                destinationAccount.getIcon(),
-                destinationAccount.getType(),
-                destinationAccount.getBalance().getAmount(),
-                destinationAccount.getBalance().getCurrency(),
-                destinationAccount.isArchived()
-        );
-
-        TransferDTO transferDTO = new TransferDTO(
-                transferToUpdate.getId(),
-                transferToUpdate.getTitle(),
-                transferToUpdate.getDescription(),
-                sourceAccountDTO,
-                destinationAccountDTO,
-                transferToUpdate.getValue().getAmount(),
-                transferToUpdate.getValue().getCurrency(),
-                transferToUpdate.getBillingDate(),
-                transferToUpdate.isPaid(),
-                transferToUpdate.getPaid(),
-                transferToUpdate.getInstallmentIndex(),
-                transferInstallments,
-                transferToUpdate.getRecurrence().getId()
-        );
+        TransferDTO transferDTO = toTransferDTO(transferToUpdate, transferInstallments);
 
         return new RecurrenceDTO<TransferDTO>(
                 recurrence.getId(),
@@ -816,6 +685,7 @@ public class TransferServiceImpl implements TransferService {
                 .orElseThrow(() -> new ResourceNotFoundException("Transfer not found."));
 
         transferRepository.deleteById(transferToDelete.getId());
+        userVersions.bump(userId);
     }
 
     @Override
@@ -825,5 +695,6 @@ public class TransferServiceImpl implements TransferService {
                 .orElseThrow(() -> new ResourceNotFoundException("Recurrence not found."));
 
         transferRepository.deleteByRecurrenceIdAndInstallmentIndexGreaterThanEqual(recurrenceId, installmentIndex);
+        userVersions.bump(userId);
     }
 }
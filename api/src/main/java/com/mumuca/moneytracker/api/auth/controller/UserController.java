@@ -2,26 +2,30 @@ package com.mumuca.moneytracker.api.auth.controller;
 
 import com.mumuca.moneytracker.api.auth.dto.UserDTO;
 import com.mumuca.moneytracker.api.auth.service.UserService;
+import com.mumuca.moneytracker.api.etag.UserVersions;
 import lombok.AllArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import static com.mumuca.moneytracker.api.util.HttpUtils.buildConditionalResponse;
 
 @RestController
 @AllArgsConstructor
 public class UserController {
 
     private final UserService userService;
+    private final UserVersions userVersions;
 
     @GetMapping(path = "/v1/me")
-    public ResponseEntity<UserDTO> getProfile(@AuthenticationPrincipal Jwt jwt) {
-        UserDTO userDTO = userService.getUser(jwt.getSubject());
-
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(userDTO);
+    public ResponseEntity<UserDTO> getProfile(@AuthenticationPrincipal Jwt jwt, WebRequest webRequest) {
+        return buildConditionalResponse(
+                webRequest,
+                userVersions.current(jwt.getSubject()),
+                () -> userService.getUser(jwt.getSubject())
+        );
     }
 }
@@ -2,6 +2,8 @@ package com.mumuca.moneytracker.api.auth.dto;
 
 import com.mumuca.moneytracker.api.auth.model.Gender;
 
+import java.io.Serializable;
+
 public record UserDTO(
         String id,
         String email,
@@ -10,4 +12,4 @@ public record UserDTO(
         String picture,
         Gender gender,
         int age
-) {}
+) implements Serializable {}
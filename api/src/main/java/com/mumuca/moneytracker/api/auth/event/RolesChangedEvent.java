@@ -0,0 +1,3 @@
+package com.mumuca.moneytracker.api.auth.event;
+
+public record RolesChangedEvent(String roleId) {}
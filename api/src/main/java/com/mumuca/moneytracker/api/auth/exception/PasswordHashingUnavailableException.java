@@ -0,0 +1,7 @@
+package com.mumuca.moneytracker.api.auth.exception;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+    public PasswordHashingUnavailableException() {
+        super("Too many sign-in or sign-up attempts are being processed. Please try again shortly.");
+    }
+}
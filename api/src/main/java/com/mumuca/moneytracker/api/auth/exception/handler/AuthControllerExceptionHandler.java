@@ -2,8 +2,10 @@ package com.mumuca.moneytracker.api.auth.exception.handler;
 
 import com.mumuca.moneytracker.api.auth.controller.AuthController;
 import com.mumuca.moneytracker.api.auth.exception.CredentialsMismatchException;
+import com.mumuca.moneytracker.api.auth.exception.PasswordHashingUnavailableException;
 import com.mumuca.moneytracker.api.auth.exception.UserAlreadyExistsException;
 import com.mumuca.moneytracker.api.exception.dto.APIErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -30,4 +32,18 @@ public class AuthControllerExceptionHandler {
                 ex.getMessage()
         );
     }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<APIErrorResponse<String>> handlePasswordHashingUnavailableException(PasswordHashingUnavailableException ex) {
+        ResponseEntity<APIErrorResponse<String>> response = buildErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "Service busy.",
+                ex.getMessage()
+        );
+
+        return ResponseEntity
+                .status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
 }
@@ -0,0 +1,36 @@
+package com.mumuca.moneytracker.api.auth.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Table(
+        name = "revoked_tokens",
+        indexes = {
+                @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at"),
+                @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+        }
+)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokedToken {
+    /**
+     * SHA-256 of the token, so a leaked table cannot be replayed.
+     */
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+}
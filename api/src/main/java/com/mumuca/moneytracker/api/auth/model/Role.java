@@ -10,6 +10,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "roles")
+@EntityListeners(RoleEntityListener.class)
 @Getter
 @Setter
 @AllArgsConstructor
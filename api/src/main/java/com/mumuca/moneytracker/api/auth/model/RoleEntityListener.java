@@ -0,0 +1,23 @@
+package com.mumuca.moneytracker.api.auth.model;
+
+import com.mumuca.moneytracker.api.auth.event.RolesChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class RoleEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onRoleChanged(Role role) {
+        eventPublisher.publishEvent(new RolesChangedEvent(role.getId()));
+    }
+}
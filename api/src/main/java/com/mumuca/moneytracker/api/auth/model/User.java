@@ -17,6 +17,7 @@ import java.time.Period;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserEntityListener.class)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -24,6 +25,9 @@ import java.time.Period;
 @Builder
 public class User extends BaseAuditableEntity {
 
+    // Created by UserEmailIndexContributor, since an index on an expression cannot be declared on the entity.
+    public static final String EMAIL_UNIQUE_INDEX = "uk_users_email_lower";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "id")
@@ -38,7 +42,7 @@ public class User extends BaseAuditableEntity {
     @Column(name = "email")
     private String email;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "users_roles",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -0,0 +1,41 @@
+package com.mumuca.moneytracker.api.auth.model;
+
+import org.hibernate.boot.ResourceStreamLocator;
+import org.hibernate.boot.model.relational.SimpleAuxiliaryDatabaseObject;
+import org.hibernate.boot.spi.AdditionalMappingContributions;
+import org.hibernate.boot.spi.AdditionalMappingContributor;
+import org.hibernate.boot.spi.InFlightMetadataCollector;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+
+import java.util.Set;
+
+/**
+ * Adds the unique index on {@code lower(users.email)} to the schema Hibernate generates, so two emails that only
+ * differ by case cannot both be stored. {@code @Index} cannot express it: a unique index is turned into a
+ * constraint, which only takes plain columns.
+ * <p>
+ * With {@code ddl-auto: update} the statement runs on every start, hence {@code IF NOT EXISTS}, and creating it
+ * fails, with a logged warning, while the table still holds such duplicates. They have to be merged first.
+ * <p>
+ * Registered in {@code META-INF/services/org.hibernate.boot.spi.AdditionalMappingContributor}.
+ */
+public class UserEmailIndexContributor implements AdditionalMappingContributor {
+
+    @Override
+    public void contribute(
+            AdditionalMappingContributions contributions,
+            InFlightMetadataCollector metadata,
+            ResourceStreamLocator resourceStreamLocator,
+            MetadataBuildingContext buildingContext
+    ) {
+        contributions.contributeAuxiliaryDatabaseObject(new SimpleAuxiliaryDatabaseObject(
+                metadata.getDatabase().getDefaultNamespace(),
+                new String[] {
+                        "create unique index if not exists " + User.EMAIL_UNIQUE_INDEX + " on users (lower(email))"
+                },
+                new String[0],
+                Set.of(),
+                false
+        ));
+    }
+}
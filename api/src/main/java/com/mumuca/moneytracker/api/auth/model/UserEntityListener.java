@@ -0,0 +1,21 @@
+package com.mumuca.moneytracker.api.auth.model;
+
+import com.mumuca.moneytracker.api.auth.event.UserChangedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    void onUserChanged(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+    }
+}
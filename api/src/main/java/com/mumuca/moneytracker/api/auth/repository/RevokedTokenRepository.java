@@ -0,0 +1,26 @@
+package com.mumuca.moneytracker.api.auth.repository;
+
+import com.mumuca.moneytracker.api.auth.model.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+    @Query("SELECT r.tokenHash FROM RevokedToken r WHERE r.expiresAt > :now")
+    List<String> findUnexpiredTokenHashes(@Param("now") Instant now);
+
+    @Query("SELECT r.tokenHash FROM RevokedToken r WHERE r.revokedAt >= :since AND r.expiresAt > :now")
+    List<String> findTokenHashesRevokedSince(@Param("since") Instant since, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
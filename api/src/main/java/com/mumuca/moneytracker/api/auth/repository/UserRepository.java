@@ -2,12 +2,32 @@ package com.mumuca.moneytracker.api.auth.repository;
 
 import com.mumuca.moneytracker.api.auth.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
-    Optional<User> findByEmail(String email);
-    boolean existsByEmail(String email);
+    // lower() on both sides, so the lookup goes through uk_users_email_lower and finds emails stored before
+    // sign-up started lowercasing them.
+    @Query("SELECT u FROM User u WHERE lower(u.email) = lower(:email)")
+    Optional<User> findByEmail(@Param("email") String email);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE User u SET u.password = :password, u.lastModifiedDate = :modifiedAt WHERE u.id = :userId")
+    int updatePassword(
+            @Param("userId") String userId,
+            @Param("password") String password,
+            @Param("modifiedAt") LocalDateTime modifiedAt
+    );
+
+    @Query(value = "SELECT role_id FROM users_roles WHERE user_id = :userId", nativeQuery = true)
+    List<String> findRoleIdsByUserId(@Param("userId") String userId);
 }
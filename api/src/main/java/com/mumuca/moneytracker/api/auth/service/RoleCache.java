@@ -0,0 +1,11 @@
+package com.mumuca.moneytracker.api.auth.service;
+
+import com.mumuca.moneytracker.api.auth.model.Role;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RoleCache {
+    Role getByAuthority(String authority);
+    List<String> getAuthorities(Collection<String> roleIds);
+}
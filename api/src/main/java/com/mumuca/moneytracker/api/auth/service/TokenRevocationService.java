@@ -0,0 +1,8 @@
+package com.mumuca.moneytracker.api.auth.service;
+
+import java.time.Instant;
+
+public interface TokenRevocationService {
+    void revoke(String tokenValue, Instant expiresAt);
+    boolean isRevoked(String tokenValue);
+}
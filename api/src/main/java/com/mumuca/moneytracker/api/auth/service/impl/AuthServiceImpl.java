@@ -3,14 +3,19 @@ package com.mumuca.moneytracker.api.auth.service.impl;
 import com.mumuca.moneytracker.api.auth.dto.SignInDTO;
 import com.mumuca.moneytracker.api.auth.dto.SignUpDTO;
 import com.mumuca.moneytracker.api.auth.dto.SignedIn;
+import com.mumuca.moneytracker.api.auth.event.UserChangedEvent;
 import com.mumuca.moneytracker.api.auth.exception.CredentialsMismatchException;
 import com.mumuca.moneytracker.api.auth.exception.UserAlreadyExistsException;
 import com.mumuca.moneytracker.api.auth.model.Role;
 import com.mumuca.moneytracker.api.auth.model.User;
-import com.mumuca.moneytracker.api.auth.repository.RoleRepository;
 import com.mumuca.moneytracker.api.auth.repository.UserRepository;
 import com.mumuca.moneytracker.api.auth.service.AuthService;
+import com.mumuca.moneytracker.api.auth.service.RoleCache;
+import com.mumuca.moneytracker.api.auth.service.TokenRevocationService;
 import lombok.AllArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.stereotype.Service;
@@ -18,58 +23,73 @@ import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 @Service
 @AllArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
+    // Databases created before the case-insensitive index still carry the plain uk_users_email constraint, which
+    // ddl-auto does not drop, and an exact duplicate may be reported against either.
+    private static final Set<String> EMAIL_UNIQUE_CONSTRAINTS = Set.of(User.EMAIL_UNIQUE_INDEX, "uk_users_email");
+
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final RoleCache roleCache;
     private final PasswordEncoder passwordEncoder;
     private final JwtEncoder jwtEncoder;
+    private final TokenRevocationService tokenRevocationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void signUp(SignUpDTO signUpDTO) {
-        boolean userAlreadyExists = userRepository.existsByEmail(signUpDTO.email());
-
-        if (userAlreadyExists) {
-            throw new UserAlreadyExistsException(signUpDTO.email());
-        }
-
-        Role userRole = roleRepository
-                .findByAuthority("USER")
-                .orElseThrow();
+        Role userRole = roleCache.getByAuthority("USER");
 
         User user = new User();
 
         user.setRoles(Set.of(userRole));
         user.setFirstName(signUpDTO.firstName());
         user.setLastName(signUpDTO.lastName());
-        user.setEmail(signUpDTO.email());
+        user.setEmail(normalizeEmail(signUpDTO.email()));
         user.setPassword(passwordEncoder.encode(signUpDTO.password()));
         user.setGender(signUpDTO.gender());
         user.setBirthDate(signUpDTO.birthDate());
 
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            if (isEmailConflict(ex)) {
+                throw new UserAlreadyExistsException(signUpDTO.email());
+            }
+
+            throw ex;
+        }
     }
 
     @Override
     public SignedIn signIn(SignInDTO signInDTO) {
-        var user = userRepository.findByEmail(signInDTO.email());
+        var user = userRepository.findByEmail(normalizeEmail(signInDTO.email()));
 
         if (user.isEmpty() || !passwordEncoder.matches(signInDTO.password(), user.get().getPassword())) {
             throw new CredentialsMismatchException();
         }
 
+        if (passwordEncoder.upgradeEncoding(user.get().getPassword())) {
+            String userId = user.get().getId();
+
+            userRepository.updatePassword(userId, passwordEncoder.encode(signInDTO.password()), LocalDateTime.now());
+
+            // A bulk update bypasses the entity listeners, so the user's cached profile and ETag version are
+            // invalidated here, as UserEntityListener would after a save.
+            eventPublisher.publishEvent(new UserChangedEvent(userId));
+        }
+
         var now = Instant.now();
         long expiresIn = 604800;
 
-        List<String> roles = user.get().getRoles()
-                .stream()
-                .map(Role::getAuthority)
-                .toList();
+        List<String> roles = roleCache.getAuthorities(userRepository.findRoleIdsByUserId(user.get().getId()));
 
         var claims = JwtClaimsSet.builder()
                 .issuer("Money Tracker")
@@ -86,6 +106,15 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public void signOut(String tokenValue, Instant expiresIn) {
-        //TODO: Implement jwt blacklist
+        tokenRevocationService.revoke(tokenValue, expiresIn);
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isEmailConflict(DataIntegrityViolationException ex) {
+        return ex.getCause() instanceof ConstraintViolationException violation
+                && EMAIL_UNIQUE_CONSTRAINTS.contains(violation.getConstraintName());
     }
 }
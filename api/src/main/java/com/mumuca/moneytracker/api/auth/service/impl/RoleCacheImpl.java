@@ -0,0 +1,90 @@
+package com.mumuca.moneytracker.api.auth.service.impl;
+
+import com.mumuca.moneytracker.api.auth.event.RolesChangedEvent;
+import com.mumuca.moneytracker.api.auth.model.Role;
+import com.mumuca.moneytracker.api.auth.repository.RoleRepository;
+import com.mumuca.moneytracker.api.auth.service.RoleCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps every role in memory. Roles are few and almost never change, so the whole table is reloaded
+ * after a role is written, and when a lookup misses (a role inserted by another node).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoleCacheImpl implements RoleCache {
+
+    private final RoleRepository roleRepository;
+
+    private volatile Map<String, Role> rolesById = Map.of();
+    private volatile Map<String, Role> rolesByAuthority = Map.of();
+
+    @Override
+    public Role getByAuthority(String authority) {
+        Role role = rolesByAuthority.get(authority);
+
+        if (role == null) {
+            reload();
+            role = rolesByAuthority.get(authority);
+        }
+
+        // The roles are seeded with the schema, so a missing one is a broken deployment, not a client error.
+        if (role == null) {
+            log.error("Role {} is missing from the roles table.", authority);
+            throw new IllegalStateException("Role " + authority + " is not configured.");
+        }
+
+        return role;
+    }
+
+    @Override
+    public List<String> getAuthorities(Collection<String> roleIds) {
+        List<String> authorities = new ArrayList<>(roleIds.size());
+
+        for (String roleId : roleIds) {
+            Role role = rolesById.get(roleId);
+
+            if (role == null) {
+                reload();
+                role = rolesById.get(roleId);
+            }
+
+            if (role != null) {
+                authorities.add(role.getAuthority());
+            }
+        }
+
+        return authorities;
+    }
+
+    // After completion rather than after commit: a lookup that missed inside the writing transaction
+    // may have cached its uncommitted roles, which must go away if it rolls back.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onRolesChanged(RolesChangedEvent event) {
+        reload();
+    }
+
+    private synchronized void reload() {
+        Map<String, Role> byId = new HashMap<>();
+        Map<String, Role> byAuthority = new HashMap<>();
+
+        for (Role role : roleRepository.findAll()) {
+            byId.put(role.getId(), role);
+            byAuthority.put(role.getAuthority(), role);
+        }
+
+        rolesById = Map.copyOf(byId);
+        rolesByAuthority = Map.copyOf(byAuthority);
+    }
+}
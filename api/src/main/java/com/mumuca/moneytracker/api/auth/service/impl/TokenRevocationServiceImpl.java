@@ -0,0 +1,123 @@
+package com.mumuca.moneytracker.api.auth.service.impl;
+
+import com.mumuca.moneytracker.api.auth.model.RevokedToken;
+import com.mumuca.moneytracker.api.auth.repository.RevokedTokenRepository;
+import com.mumuca.moneytracker.api.auth.service.TokenRevocationService;
+import com.mumuca.moneytracker.api.security.BloomFilter;
+import com.mumuca.moneytracker.api.security.TokenHashes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Revoked tokens are stored in Postgres until they expire, and mirrored in a per-node
+ * {@link BloomFilter}. A token that is not in the filter is known not to be revoked without any I/O;
+ * only filter hits are confirmed against the table.
+ *
+ * <p>Revocations made on this node enter the filter immediately. Revocations made on other nodes
+ * are picked up by {@link #refresh()}, so they take up to {@code jwt.revocation.refresh-interval-ms}
+ * to be enforced here. The filter cannot forget expired tokens, so it is rebuilt from the table on
+ * {@code jwt.revocation.rebuild-interval-ms}.
+ */
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    @Value("${jwt.revocation.expected-tokens:100000}")
+    private long expectedTokens;
+
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${jwt.revocation.clock-skew:30s}")
+    private Duration clockSkew;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Counter bloomHits;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile Instant refreshedUntil;
+
+    public TokenRevocationServiceImpl(RevokedTokenRepository revokedTokenRepository, MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.bloomHits = Counter.builder("jwt.revocation.bloom.hits")
+                .description("Revocation checks that had to be confirmed against the store")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("jwt.revocation.bloom.false-positives")
+                .description("Bloom filter hits for tokens that were not revoked")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void rebuild() {
+        Instant now = Instant.now();
+        BloomFilter rebuilt = new BloomFilter(expectedTokens, falsePositiveRate);
+
+        for (String tokenHash : revokedTokenRepository.findUnexpiredTokenHashes(now)) {
+            rebuilt.put(tokenHash);
+        }
+
+        // Revocations committed while the table was being read are caught by the next refresh.
+        refreshedUntil = now;
+        bloomFilter = rebuilt;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${jwt.revocation.refresh-interval-ms:5000}",
+            initialDelayString = "${jwt.revocation.refresh-interval-ms:5000}"
+    )
+    void refresh() {
+        Instant now = Instant.now();
+        BloomFilter current = bloomFilter;
+
+        for (String tokenHash : revokedTokenRepository.findTokenHashesRevokedSince(refreshedUntil.minus(clockSkew), now)) {
+            current.put(tokenHash);
+        }
+
+        refreshedUntil = now;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}"
+    )
+    void purgeAndRebuild() {
+        revokedTokenRepository.deleteExpired(Instant.now());
+        rebuild();
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String tokenValue, Instant expiresAt) {
+        String tokenHash = TokenHashes.sha256(tokenValue);
+
+        revokedTokenRepository.save(new RevokedToken(tokenHash, expiresAt, Instant.now()));
+        bloomFilter.put(tokenHash);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenValue) {
+        String tokenHash = TokenHashes.sha256(tokenValue);
+
+        if (!bloomFilter.mightContain(tokenHash)) {
+            return false;
+        }
+
+        bloomHits.increment();
+
+        boolean revoked = revokedTokenRepository.existsById(tokenHash);
+
+        if (!revoked) {
+            falsePositives.increment();
+        }
+
+        return revoked;
+    }
+}
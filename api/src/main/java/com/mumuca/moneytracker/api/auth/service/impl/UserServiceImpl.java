@@ -1,11 +1,17 @@
 package com.mumuca.moneytracker.api.auth.service.impl;
 
 import com.mumuca.moneytracker.api.auth.dto.UserDTO;
+import com.mumuca.moneytracker.api.auth.event.UserChangedEvent;
 import com.mumuca.moneytracker.api.auth.repository.UserRepository;
 import com.mumuca.moneytracker.api.auth.service.UserService;
+import com.mumuca.moneytracker.api.config.CacheConfig;
 import com.mumuca.moneytracker.api.exception.ResourceNotFoundException;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 @AllArgsConstructor
@@ -14,6 +20,8 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
+    @Transactional(readOnly = true)
     public UserDTO getUser(String userId) {
         return userRepository.findById(userId)
                 .map(user -> new UserDTO(
@@ -27,4 +35,9 @@ public class UserServiceImpl implements UserService {
                 ))
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#event.userId()")
+    public void onUserChanged(UserChangedEvent event) {
+    }
 }
@@ -0,0 +1,14 @@
+package com.mumuca.moneytracker.api.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The cache provider is chosen with {@code spring.cache.type}: {@code caffeine} keeps a bounded
+ * cache per node, {@code redis} shares it between nodes.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String USERS_CACHE = "users";
+}
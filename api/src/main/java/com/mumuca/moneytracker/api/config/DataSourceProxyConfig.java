@@ -0,0 +1,140 @@
+package com.mumuca.moneytracker.api.config;
+
+import com.mumuca.moneytracker.api.datasource.ConnectionLimitingDataSource;
+import com.mumuca.moneytracker.api.datasource.ReplicaRoutingDataSource;
+import com.mumuca.moneytracker.api.metrics.QueryLoggingListener;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.NanoTimeStopwatchFactory;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory;
+import net.ttddyy.dsproxy.proxy.jdk.JdkJdbcProxyFactory;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.AuditorAware;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Wraps the application {@link DataSource} in a datasource-proxy that reports every statement to the
+ * {@link QueryExecutionListener} beans. Statements are timed with {@link System#nanoTime()}, so
+ * {@code ExecutionInfo.getElapsedTime()} is in nanoseconds.
+ * <p>
+ * Result sets are not proxied by datasource-proxy itself. They are handed to
+ * {@link QueryLoggingListener#track(ResultSet)}, which only wraps the ones whose rows it needs to count.
+ * <p>
+ * Between the proxy and the pool sits a {@link ConnectionLimitingDataSource}, sized by {@code db.limiter.permits}
+ * and {@code db.limiter.max-wait}, so time spent queueing for a connection is not counted as statement time.
+ * <p>
+ * When {@code db.replicas.urls} lists replicas, read-only transactions are sent to them through a
+ * {@link ReplicaRoutingDataSource}, which also listens to the proxy to see which users wrote. Each replica gets
+ * its own Hikari pool, configured like the primary's.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(
+            ObjectProvider<QueryExecutionListener> listeners,
+            ObjectProvider<QueryLoggingListener> queryLoggingListener,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<AuditorAware<String>> auditorAware,
+            Environment environment
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+
+                ConnectionLimitingDataSource limitingDataSource = new ConnectionLimitingDataSource(
+                        dataSource,
+                        dataSource instanceof HikariDataSource pool && pool.getPoolName() != null
+                                ? pool.getPoolName()
+                                : beanName,
+                        environment.getRequiredProperty("db.limiter.permits", Integer.class),
+                        environment.getRequiredProperty("db.limiter.max-wait", Duration.class),
+                        meterRegistry.getObject()
+                );
+
+                String[] replicaUrls = environment.getProperty("db.replicas.urls", String[].class, new String[0]);
+
+                DataSource routedDataSource = replicaUrls.length > 0 && dataSource instanceof HikariDataSource primary
+                        ? new ReplicaRoutingDataSource(
+                                limitingDataSource,
+                                replicaPools(primary, replicaUrls, environment, meterRegistry.getObject()),
+                                environment.getRequiredProperty("db.replicas.max-lag", Duration.class),
+                                environment.getRequiredProperty("db.replicas.check-interval", Duration.class),
+                                environment.getRequiredProperty("db.replicas.read-your-writes", Duration.class),
+                                () -> auditorAware.getIfAvailable(() -> Optional::empty).getCurrentAuditor(),
+                                meterRegistry.getObject()
+                        )
+                        : limitingDataSource;
+
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, routedDataSource);
+                listeners.orderedStream().forEach(builder::listener);
+
+                if (routedDataSource instanceof ReplicaRoutingDataSource replicaRoutingDataSource) {
+                    builder.listener(replicaRoutingDataSource);
+                }
+                QueryLoggingListener loggingListener = queryLoggingListener.getIfAvailable();
+
+                ProxyDataSource proxyDataSource = builder.build();
+                proxyDataSource.setProxyConfig(ProxyConfig.Builder.from(proxyDataSource.getProxyConfig())
+                        .stopwatchFactory(new NanoTimeStopwatchFactory())
+                        .resultSetProxyLogicFactory(ResultSetProxyLogicFactory.DEFAULT)
+                        .jdbcProxyFactory(new JdkJdbcProxyFactory() {
+                            @Override
+                            public ResultSet createResultSet(ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+                                return loggingListener != null ? loggingListener.track(resultSet) : resultSet;
+                            }
+                        })
+                        .build());
+
+                return proxyDataSource;
+            }
+        };
+    }
+
+    private static Map<String, DataSource> replicaPools(
+            HikariDataSource primary,
+            String[] urls,
+            Environment environment,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+
+        for (int i = 0; i < urls.length; i++) {
+            HikariConfig config = new HikariConfig();
+            primary.copyStateTo(config);
+
+            config.setPoolName(primary.getPoolName() + "-replica-" + (i + 1));
+            config.setJdbcUrl(urls[i].trim());
+            config.setUsername(environment.getProperty("db.replicas.username", primary.getUsername()));
+            config.setPassword(environment.getProperty("db.replicas.password", primary.getPassword()));
+            config.setReadOnly(true);
+            // A replica that is down at startup stays out of rotation instead of failing the application.
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(null);
+            config.setMetricRegistry(meterRegistry);
+
+            replicas.put(config.getPoolName(), new HikariDataSource(config));
+        }
+
+        return replicas;
+    }
+}
@@ -1,40 +1,68 @@
 package com.mumuca.moneytracker.api.config;
 
-import com.nimbusds.jose.jwk.JWK;
+import com.mumuca.moneytracker.api.security.CachingJwtDecoder;
+import com.mumuca.moneytracker.api.security.JwkSetJwtDecoder;
+import com.mumuca.moneytracker.api.security.JwkSetJwtEncoder;
+import com.mumuca.moneytracker.api.security.JwtKeys;
 import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
 
 @Configuration(proxyBeanMethods = false)
 @RequiredArgsConstructor
 public class JwtConfig {
 
+    private final ResourceLoader resourceLoader;
+
     @Value("${jwt.public.key}")
     private RSAPublicKey publicKey;
 
     @Value("${jwt.private.key}")
     private RSAPrivateKey privateKey;
 
+    @Value("${jwt.jwks.location:}")
+    private String jwksLocation;
+
+    @Value("${jwt.jwks.active-kid:}")
+    private String activeKid;
+
+    @Value("${jwt.cache.maximum-size:10000}")
+    private long cacheMaximumSize;
+
+    @Bean
+    public JwtKeys jwtKeys() throws IOException, ParseException {
+        if (jwksLocation.isBlank()) {
+            return JwtKeys.rsa(publicKey, privateKey);
+        }
+
+        Resource resource = resourceLoader.getResource(jwksLocation);
+
+        try (InputStream inputStream = resource.getInputStream()) {
+            JWKSet jwkSet = JWKSet.parse(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+            return JwtKeys.of(jwkSet, activeKid);
+        }
+    }
+
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(publicKey).build();
+    public JwtDecoder jwtDecoder(JwtKeys jwtKeys) {
+        return new CachingJwtDecoder(new JwkSetJwtDecoder(jwtKeys), cacheMaximumSize);
     }
 
     @Bean
-    public JwtEncoder jwtEncoder() {
-        JWK jwk = new RSAKey.Builder(publicKey).privateKey(privateKey).build();
-        var jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+    public JwtEncoder jwtEncoder(JwtKeys jwtKeys) {
+        return new JwkSetJwtEncoder(jwtKeys);
     }
 }
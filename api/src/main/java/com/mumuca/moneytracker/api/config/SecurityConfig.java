@@ -1,8 +1,14 @@
 package com.mumuca.moneytracker.api.config;
 
 import com.mumuca.moneytracker.api.filter.JwtValidationFilter;
+import com.mumuca.moneytracker.api.jfr.FlightRecordingEndpoint;
+import com.mumuca.moneytracker.api.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -11,10 +17,17 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationEntryPoint;
+import org.springframework.security.oauth2.server.resource.web.access.BearerTokenAccessDeniedHandler;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+
+import java.time.Duration;
+import java.util.Map;
 
 
 @Configuration(proxyBeanMethods = false)
@@ -22,15 +35,47 @@ import org.springframework.security.web.SecurityFilterChain;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    /**
+     * Starting a flight recording costs CPU and disk on the node, so it takes more than a signed-in user.
+     */
+    private static final String FLIGHT_RECORDING_AUTHORITY = "ADMIN";
+
     @Value("${bcrypt.salt}")
     private int bcryptSalt;
 
+    @Value("${password.encoding.id:bcrypt}")
+    private String passwordEncodingId;
+
+    @Value("${password.encoding.argon2.salt-length:16}")
+    private int argon2SaltLength;
+
+    @Value("${password.encoding.argon2.hash-length:32}")
+    private int argon2HashLength;
+
+    @Value("${password.encoding.argon2.parallelism:1}")
+    private int argon2Parallelism;
+
+    @Value("${password.encoding.argon2.memory-kib:19456}")
+    private int argon2MemoryKib;
+
+    @Value("${password.encoding.argon2.iterations:2}")
+    private int argon2Iterations;
+
+    @Value("${password.hashing.cpu-share:0.5}")
+    private double hashingCpuShare;
+
+    @Value("${password.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Value("${password.hashing.max-wait:5s}")
+    private Duration hashingMaxWait;
+
     private final JwtValidationFilter jwtValidationFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
-                .addFilterBefore(jwtValidationFilter, BearerTokenAuthenticationFilter.class)
+                .addFilterBefore(jwtValidationFilter, AnonymousAuthenticationFilter.class)
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(Customizer.withDefaults())
                 .authorizeHttpRequests(request ->
@@ -39,9 +84,17 @@ public class SecurityConfig {
                                         "/v1/auth/sign-up",
                                         "/v1/auth/sign-in"
                                 ).permitAll()
+                                .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class))
+                                .permitAll()
+                                .requestMatchers(EndpointRequest.to(FlightRecordingEndpoint.class))
+                                .hasAuthority(FLIGHT_RECORDING_AUTHORITY)
                                 .anyRequest().authenticated()
                 )
-                .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
+                .exceptionHandling(exceptions ->
+                        exceptions
+                                .authenticationEntryPoint(new BearerTokenAuthenticationEntryPoint())
+                                .accessDeniedHandler(new BearerTokenAccessDeniedHandler())
+                )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
         http.headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin));
@@ -50,7 +103,30 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(bcryptSalt);
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int hashingThreads = Math.max(1, (int) Math.round(Runtime.getRuntime().availableProcessors() * hashingCpuShare));
+
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", new BCryptPasswordEncoder(bcryptSalt),
+                "argon2", new Argon2PasswordEncoder(
+                        argon2SaltLength,
+                        argon2HashLength,
+                        argon2Parallelism,
+                        argon2MemoryKib,
+                        argon2Iterations
+                )
+        );
+
+        // Hashes written before the {id} prefix existed are plain BCrypt.
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(passwordEncodingId, encoders);
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(encoders.get("bcrypt"));
+
+        return new BoundedPasswordEncoder(
+                delegatingPasswordEncoder,
+                hashingThreads,
+                hashingQueueCapacity,
+                hashingMaxWait,
+                meterRegistry
+        );
     }
 }
@@ -0,0 +1,179 @@
+package com.mumuca.moneytracker.api.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lets at most {@code permits} connections out of the target pool at once, and queues everyone else on a
+ * fair semaphore. With virtual threads there is no request thread pool left to cap concurrency, so without
+ * this every request races for the pool and the losers time out in {@code getConnection} in no particular
+ * order. Callers that wait longer than {@code maxWait} fail fast with {@link SQLTransientConnectionException}.
+ * <p>
+ * The permit is held until the connection is closed, so {@code permits} should match the pool's maximum
+ * size and {@code maxWait} should be shorter than the pool's own connection timeout. Closing it closes the target.
+ * <p>
+ * Its meters carry a {@code pool} tag with {@code poolName}, like Hikari's own, so limiters in front of different
+ * pools are told apart.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource implements Closeable {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final Duration maxWait;
+    private final Timer waitTimer;
+    private final Counter rejections;
+
+    public ConnectionLimitingDataSource(
+            DataSource target,
+            String poolName,
+            int permits,
+            Duration maxWait,
+            MeterRegistry meterRegistry
+    ) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.maxWait = maxWait;
+
+        this.waitTimer = Timer.builder("db.limiter.wait")
+                .description("Time spent waiting for a database connection permit")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        this.rejections = Counter.builder("db.limiter.rejected")
+                .description("Connection requests rejected because no permit freed up in time")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+
+        Gauge.builder("db.limiter.waiting", this.permits, Semaphore::getQueueLength)
+                .description("Callers waiting for a database connection permit")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        Gauge.builder("db.limiter.active", this.permits, semaphore -> maxPermits - semaphore.availablePermits())
+                .description("Database connection permits held")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return limited(obtain(() -> super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return limited(obtain(() -> super.getConnection(username, password)));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (obtainTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long startedAt = System.nanoTime();
+        boolean acquired;
+
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection permit", ex);
+        } finally {
+            waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            rejections.increment();
+            throw new SQLTransientConnectionException(
+                    "No database connection permit became available within " + maxWait.toMillis() + "ms"
+            );
+        }
+    }
+
+    private Connection obtain(ConnectionSupplier supplier) throws SQLException {
+        try {
+            return supplier.get();
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    private Connection limited(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionLimitingDataSource.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new PermitReleasingHandler(connection)
+        );
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * Hands every call to the pooled connection, and gives the permit back the first time it is closed.
+     */
+    private final class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "close" -> {
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                }
+                default -> {
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                }
+            }
+        }
+    }
+}
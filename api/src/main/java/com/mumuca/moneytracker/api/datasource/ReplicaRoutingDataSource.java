@@ -0,0 +1,326 @@
+package com.mumuca.moneytracker.api.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends the statements of read-only transactions to a replica, and everything else to the primary.
+ * <p>
+ * A read-only transaction stays on the primary when:
+ * <ul>
+ *     <li>no replica is healthy. Each replica's replay lag is checked every {@code checkInterval}, and a replica
+ *     lagging more than {@code maxLag}, or failing the check, is skipped until a later check passes.</li>
+ *     <li>the current user committed a write less than {@code readYourWrites} ago, so they see their own
+ *     changes.</li>
+ *     <li>the chosen replica fails to hand out a connection.</li>
+ * </ul>
+ * The choice is made when the transaction runs its first statement, which is why this is a
+ * {@link LazyConnectionDataSourceProxy}: the transaction manager asks for a connection before it has marked the
+ * transaction read-only.
+ * <p>
+ * Writes are seen as a {@link QueryExecutionListener} of the datasource-proxy above this data source. A user is
+ * remembered once an {@code INSERT}, {@code UPDATE} or {@code DELETE} of theirs commits, so read-write
+ * transactions and statements outside a transaction that only read do not keep them on the primary. The
+ * recent writers are held in memory, so with several nodes a user is only kept on the primary by the node that
+ * ran their write.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy
+        implements QueryExecutionListener, Closeable {
+
+    private static final String LAG_QUERY = """
+            select case
+                when not pg_is_in_recovery() then 0
+                when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                else extract(epoch from now() - pg_last_xact_replay_timestamp())
+            end
+            """;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Supplier<Optional<String>> currentUser;
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker;
+
+    // Bound to the transaction once it has written, so its commit is only hooked once.
+    private final Object writingTransaction = new Object();
+
+    private final Counter readWriteConnections;
+    private final Counter replicaConnections;
+    private final Counter stickyConnections;
+    private final Counter fallbackConnections;
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile double lagSeconds = Double.NaN;
+        private volatile boolean healthy;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    /**
+     * @param replicas     replica pools by name, closed along with this data source
+     * @param currentUser  the user whose writes and reads are routed, empty outside of a request
+     */
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            Duration maxLag,
+            Duration checkInterval,
+            Duration readYourWrites,
+            Supplier<Optional<String>> currentUser,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.maxLag = maxLag;
+        this.currentUser = currentUser;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(readYourWrites)
+                .build();
+
+        this.replicas = new ArrayList<>(replicas.size());
+
+        for (Map.Entry<String, DataSource> entry : replicas.entrySet()) {
+            Replica replica = new Replica(entry.getKey(), entry.getValue());
+            this.replicas.add(replica);
+
+            Gauge.builder("db.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Replay lag of the replica at its last check, NaN when the check failed")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+
+        this.readWriteConnections = routed(meterRegistry, "primary", "read-write");
+        this.replicaConnections = routed(meterRegistry, "replica", "read-only");
+        this.stickyConnections = routed(meterRegistry, "primary", "read-your-writes");
+        this.fallbackConnections = routed(meterRegistry, "primary", "no-replica");
+
+        setTargetDataSource(new Router());
+        afterPropertiesSet();
+
+        // Check once up front, so reads go to the replicas from the first request on.
+        checkReplicas();
+
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-check").daemon().factory()
+        );
+        this.lagChecker.scheduleWithFixedDelay(
+                this::checkReplicas,
+                checkInterval.toMillis(),
+                checkInterval.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Measures the replay lag of every replica and decides which ones take reads until the next check.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(1);
+
+                try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                    resultSet.next();
+                    double lag = resultSet.getDouble(1);
+                    replica.lagSeconds = resultSet.wasNull() ? Double.POSITIVE_INFINITY : lag;
+                }
+            } catch (SQLException | RuntimeException ex) {
+                log.debug("Lag check of replica {} failed: {}", replica.name, ex.getMessage());
+                replica.lagSeconds = Double.NaN;
+            }
+
+            boolean healthy = replica.lagSeconds <= maxLag.toMillis() / 1000.0;
+
+            if (healthy != replica.healthy) {
+                log.info("Replica {} is {} (lag {}s)", replica.name, healthy ? "back in rotation" : "out of rotation", replica.lagSeconds);
+            }
+
+            replica.healthy = healthy;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lagChecker.shutdownNow();
+
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+
+        if (primary instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+        if (!executionInfo.isSuccess() || !isWrite(executionInfo, queries)) {
+            return;
+        }
+
+        currentUser.get().ifPresent(this::rememberWrite);
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readWriteConnections.increment();
+            return source.from(primary);
+        }
+
+        Optional<String> user = currentUser.get();
+
+        if (user.isPresent() && recentWriters.getIfPresent(user.get()) != null) {
+            stickyConnections.increment();
+            return source.from(primary);
+        }
+
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+
+            if (!replica.healthy) {
+                continue;
+            }
+
+            try {
+                Connection connection = source.from(replica.dataSource);
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException ex) {
+                log.warn("Replica {} failed to hand out a connection, taking it out of rotation: {}", replica.name, ex.getMessage());
+                replica.healthy = false;
+            }
+        }
+
+        fallbackConnections.increment();
+        return source.from(primary);
+    }
+
+    /**
+     * Keeps the user on the primary from the moment their transaction commits, or right away for a write
+     * outside of a transaction, which auto-commits.
+     */
+    private void rememberWrite(String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentWriters.put(userId, Boolean.TRUE);
+            return;
+        }
+
+        if (TransactionSynchronizationManager.hasResource(writingTransaction)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(writingTransaction, userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writingTransaction);
+            }
+        });
+    }
+
+    // Hibernate reads through executeQuery, so only the other calls need their SQL looked at.
+    private static boolean isWrite(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+        if (executionInfo.getMethod() != null && "executeQuery".equals(executionInfo.getMethod().getName())) {
+            return false;
+        }
+
+        for (QueryInfo query : queries) {
+            QueryType type = QueryUtils.getQueryType(query.getQuery());
+
+            if (type == QueryType.INSERT || type == QueryType.UPDATE || type == QueryType.DELETE) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Counter routed(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("db.routing.connections")
+                .description("Connections handed out, by the data source they came from and why")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection from(DataSource dataSource) throws SQLException;
+    }
+
+    private final class Router extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return route(DataSource::getConnection);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return route(dataSource -> dataSource.getConnection(username, password));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            return iface.isInstance(this) ? (T) this : primary.unwrap(iface);
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) throws SQLException {
+            return iface.isInstance(this) || primary.isWrapperFor(iface);
+        }
+    }
+}
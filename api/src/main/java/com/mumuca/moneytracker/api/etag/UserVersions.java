@@ -0,0 +1,8 @@
+package com.mumuca.moneytracker.api.etag;
+
+import java.util.Optional;
+
+public interface UserVersions {
+    Optional<String> current(String userId);
+    void bump(String userId);
+}
@@ -0,0 +1,173 @@
+package com.mumuca.moneytracker.api.etag.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mumuca.moneytracker.api.auth.event.UserChangedEvent;
+import com.mumuca.moneytracker.api.etag.UserVersions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Hands out an opaque version for each user's data, which changes whenever the account and transfer services
+ * or the user entity write it. Read endpoints turn it into an ETag, so a client polling unchanged data gets a
+ * 304 without any query being run.
+ * <p>
+ * A version is a random token rather than a counter, so a user whose version was dropped (evicted, expired,
+ * or lost in a restart) gets a new one instead of one that was already handed out for other data.
+ * <p>
+ * Versions live in memory unless {@code etags.shared.enabled} is set, in which case they live in Redis and every
+ * node hands out the same one. Without Redis, each node only knows about the writes it ran itself, which is only
+ * correct with a single node.
+ * <p>
+ * A version changes once the writing transaction completes, never before: a read that saw the new version while
+ * the write was still uncommitted would tag the old data with it.
+ * <p>
+ * Even then, another node can read the new version and still serve old data for a while: its cached account
+ * lists are only evicted once the eviction reaches it over Redis, and its reads may go to a replica that has not
+ * replayed the write yet. Nothing would change the version again, so the stale ETag would stick. The version is
+ * therefore changed a second time once {@code db.replicas.max-lag}, or {@code etags.shared.settle-delay} if
+ * longer, has passed.
+ */
+@Slf4j
+@Service
+public class UserVersionsImpl implements UserVersions {
+
+    private static final RedisScript<String> CURRENT = RedisScript.of("""
+            local version = redis.call('GET', KEYS[1])
+            if not version then
+                version = ARGV[1]
+                redis.call('SET', KEYS[1], version, 'PX', ARGV[2])
+            end
+            return version
+            """, String.class);
+
+    private final Cache<String, String> local;
+
+    private final StringRedisTemplate redis;
+    private final Duration sharedTimeToLive;
+    private final Counter sharedErrors;
+
+    private final TaskScheduler taskScheduler;
+    private final Duration settleDelay;
+
+    public UserVersionsImpl(
+            @Value("${etags.local.maximum-size:100000}") long localMaximumSize,
+            @Value("${etags.shared.enabled:false}") boolean sharedEnabled,
+            @Value("${etags.shared.time-to-live:1d}") Duration sharedTimeToLive,
+            @Value("${etags.shared.settle-delay:1s}") Duration sharedSettleDelay,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            TaskScheduler taskScheduler,
+            Environment environment,
+            MeterRegistry meterRegistry
+    ) {
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .build();
+        this.redis = sharedEnabled ? redisTemplate.getObject() : null;
+        this.sharedTimeToLive = sharedTimeToLive;
+        this.sharedErrors = Counter.builder("etags.versions.shared.errors")
+                .description("User versions that could not be read from or written to Redis")
+                .register(meterRegistry);
+
+        Duration replicaMaxLag = environment.getProperty("db.replicas.urls", String[].class, new String[0]).length > 0
+                ? environment.getRequiredProperty("db.replicas.max-lag", Duration.class)
+                : Duration.ZERO;
+        Duration settleDelay = sharedEnabled && sharedSettleDelay.compareTo(replicaMaxLag) > 0
+                ? sharedSettleDelay
+                : replicaMaxLag;
+
+        this.taskScheduler = taskScheduler;
+        this.settleDelay = settleDelay.isPositive() ? settleDelay : null;
+    }
+
+    @Override
+    public Optional<String> current(String userId) {
+        if (redis == null) {
+            return Optional.of(local.get(userId, ignored -> newVersion()));
+        }
+
+        try {
+            return Optional.ofNullable(redis.execute(
+                    CURRENT,
+                    List.of(key(userId)),
+                    newVersion(),
+                    String.valueOf(sharedTimeToLive.toMillis())
+            ));
+        } catch (RuntimeException ex) {
+            sharedErrors.increment();
+            log.warn("Shared user versions unavailable, answering without an ETag: {}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Changes the user's version once the current transaction completes, or right away outside of one. Call it
+     * after the write, so a write made outside of a transaction is already committed.
+     */
+    @Override
+    public void bump(String userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    replaceAndSettle(userId);
+                }
+            });
+        } else {
+            replaceAndSettle(userId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        replaceAndSettle(event.userId());
+    }
+
+    private void replaceAndSettle(String userId) {
+        replace(userId);
+
+        if (settleDelay != null) {
+            taskScheduler.schedule(() -> replace(userId), Instant.now().plus(settleDelay));
+        }
+    }
+
+    private void replace(String userId) {
+        if (redis == null) {
+            local.put(userId, newVersion());
+            return;
+        }
+
+        try {
+            redis.opsForValue().set(key(userId), newVersion(), sharedTimeToLive);
+        } catch (RuntimeException ex) {
+            sharedErrors.increment();
+            log.error("Could not change the shared version of user {}, their clients may get stale 304s", userId, ex);
+        }
+    }
+
+    private static String newVersion() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    private static String key(String userId) {
+        return "moneytracker:versions:{" + userId + "}";
+    }
+}
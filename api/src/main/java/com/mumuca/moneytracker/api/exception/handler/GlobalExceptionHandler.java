@@ -2,20 +2,26 @@ package com.mumuca.moneytracker.api.exception.handler;
 
 import com.mumuca.moneytracker.api.exception.*;
 import com.mumuca.moneytracker.api.exception.dto.APIErrorResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.mumuca.moneytracker.api.util.HttpUtils.buildErrorResponse;
 
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -38,8 +44,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<APIErrorResponse<String>> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
-        System.out.println(ex.getHttpInputMessage());
-        ex.printStackTrace();
+        log.debug("Malformed request body: {}", ex.getMessage());
         return buildErrorResponse(
                 HttpStatus.UNPROCESSABLE_ENTITY,
                 "Malformed JSON request.",
@@ -49,7 +54,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<APIErrorResponse<String>> handleException(Exception ex) {
-        ex.printStackTrace();
+        log.error("Unhandled exception", ex);
         return buildErrorResponse(
                 HttpStatus.INTERNAL_SERVER_ERROR,
                 "Internal server error.",
@@ -57,6 +62,32 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * Running out of database connections, whether the limiter or the pool gave up first, is transient: the
+     * client is told to retry instead of getting a 500. Any other failure to get a connection is still a 500.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<APIErrorResponse<String>> handleConnectionFailure(RuntimeException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                log.warn("No database connection available: {}", cause.getMessage());
+
+                ResponseEntity<APIErrorResponse<String>> response = buildErrorResponse(
+                        HttpStatus.SERVICE_UNAVAILABLE,
+                        "Service busy.",
+                        "The service is handling too many requests, please try again."
+                );
+
+                return ResponseEntity
+                        .status(response.getStatusCode())
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(response.getBody());
+            }
+        }
+
+        return handleException(ex);
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<APIErrorResponse<String>> handleResourceNotFoundException(ResourceNotFoundException ex) {
         return buildErrorResponse(
@@ -0,0 +1,109 @@
+package com.mumuca.moneytracker.api.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Ignores the flushes a handler makes while writing the response, so the response is only committed when the
+ * container's buffer fills up or the request ends.
+ * <p>
+ * Spring's message converters flush once the body is written, which commits the response before its length is
+ * known, and Tomcat then compresses it whatever its size, since {@code server.compression.min-response-size} is
+ * only checked against a known {@code Content-Length}. Without the flush, a body that fits the buffer is sent
+ * with its length and small responses go out as they are. Larger bodies still commit when the buffer fills up.
+ * <p>
+ * Server-sent events need their flushes, so {@code text/event-stream} requests are left alone.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DeferredFlushFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        filterChain.doFilter(request, new DeferredFlushResponse(response));
+    }
+
+    private static final class DeferredFlushResponse extends HttpServletResponseWrapper {
+
+        private ServletOutputStream outputStream;
+
+        DeferredFlushResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new DeferredFlushOutputStream(super.getOutputStream());
+            }
+
+            return outputStream;
+        }
+
+        @Override
+        public void flushBuffer() {
+        }
+    }
+
+    private static final class DeferredFlushOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        DeferredFlushOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
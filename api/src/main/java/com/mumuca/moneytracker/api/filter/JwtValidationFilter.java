@@ -1,42 +1,82 @@
 package com.mumuca.moneytracker.api.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mumuca.moneytracker.api.auth.service.TokenRevocationService;
 import com.mumuca.moneytracker.api.exception.dto.APIErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.core.DefaultOAuth2AuthenticatedPrincipal;
-import org.springframework.security.oauth2.core.OAuth2AccessToken;
-import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthentication;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
+/**
+ * Single authentication path for the API: takes the JWT from the {@code jwt} cookie or from an
+ * {@code Authorization: Bearer} header, decodes it exactly once and stores a
+ * {@code JwtAuthenticationToken} (principal is the {@link Jwt}) in the security context.
+ * Revoked tokens are rejected like invalid ones.
+ */
+@Slf4j
 @Component
-@AllArgsConstructor
 public class JwtValidationFilter extends OncePerRequestFilter {
 
+    private static final String JWT_COOKIE = "jwt";
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JwtDecoder jwtDecoder;
+    private final TokenRevocationService tokenRevocationService;
     private final ObjectMapper objectMapper;
+    private final JwtAuthenticationConverter jwtAuthenticationConverter;
+    private final Counter successfulDecodes;
+    private final Counter failedDecodes;
+    private final Counter revokedTokens;
+
+    public JwtValidationFilter(
+            JwtDecoder jwtDecoder,
+            TokenRevocationService tokenRevocationService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtDecoder = jwtDecoder;
+        this.tokenRevocationService = tokenRevocationService;
+        this.objectMapper = objectMapper;
+
+        JwtGrantedAuthoritiesConverter authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        authoritiesConverter.setAuthoritiesClaimName("roles");
+        authoritiesConverter.setAuthorityPrefix("");
+
+        this.jwtAuthenticationConverter = new JwtAuthenticationConverter();
+        this.jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(authoritiesConverter);
+
+        this.successfulDecodes = Counter.builder("jwt.decodes")
+                .description("JWT decode calls made while authenticating requests")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failedDecodes = Counter.builder("jwt.decodes")
+                .description("JWT decode calls made while authenticating requests")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.revokedTokens = Counter.builder("jwt.decodes")
+                .description("JWT decode calls made while authenticating requests")
+                .tag("outcome", "revoked")
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -44,81 +84,69 @@ public class JwtValidationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
-        String jwtFromCookie = request.getCookies() != null ? Arrays.stream(request.getCookies())
-                .filter(c -> c.getName().equals("jwt"))
-                .findFirst()
-                .map(Cookie::getValue)
-                .orElse(null) : null;
+        String token = resolveToken(request);
 
-        if (jwtFromCookie == null) {
+        if (token == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        request = new HttpServletRequestWrapper(request) {
-            @Override
-            public String getHeader(String name) {
-                if ("Authorization".equalsIgnoreCase(name)) {
-                    return "Bearer " + jwtFromCookie;
-                }
-                return super.getHeader(name);
+        try {
+            Jwt jwt = jwtDecoder.decode(token);
+
+            if (tokenRevocationService.isRevoked(token)) {
+                revokedTokens.increment();
+                writeUnauthorized(response);
+                return;
             }
-        };
 
-        try {
-            System.out.println("Validating JWT:" + jwtFromCookie);
-            Jwt jwt = jwtDecoder.decode(jwtFromCookie);
+            successfulDecodes.increment();
 
-            Authentication authentication = createBearerAuthentication(jwt);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(jwtAuthenticationConverter.convert(jwt));
+            SecurityContextHolder.setContext(context);
         } catch (JwtException ex) {
-            ex.printStackTrace();
-            APIErrorResponse<String> errorResponse = new APIErrorResponse<String>(
-                    HttpServletResponse.SC_UNAUTHORIZED,
-                    LocalDateTime.now(),
-                    "Invalid or expired token",
-                    "The provided token is invalid or expired. Please sign in again."
-            );
-
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            response.setCharacterEncoding("UTF-8");
-
-            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+            failedDecodes.increment();
+            log.debug("Rejected JWT: {}", ex.getMessage());
+            writeUnauthorized(response);
             return;
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private Authentication createBearerAuthentication(Jwt jwt) {
-        String userId = jwt.getSubject();
+    private void writeUnauthorized(HttpServletResponse response) throws IOException {
+        APIErrorResponse<String> errorResponse = new APIErrorResponse<String>(
+                HttpServletResponse.SC_UNAUTHORIZED,
+                LocalDateTime.now(),
+                "Invalid or expired token",
+                "The provided token is invalid or expired. Please sign in again."
+        );
 
-        List<String> roles = jwt
-                .getClaimAsStringList("roles");
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
 
-        List<GrantedAuthority> authorities = roles.stream()
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toUnmodifiableList());
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
 
-        Map<String, Object> attributes = Map.of(
-                "sub", userId,
-                "roles", roles
-        );
+    private String resolveToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
 
-        OAuth2AuthenticatedPrincipal principal = new DefaultOAuth2AuthenticatedPrincipal(
-                userId,
-                attributes,
-                authorities
-        );
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (JWT_COOKIE.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
 
-        OAuth2AccessToken accessToken = new OAuth2AccessToken(
-                OAuth2AccessToken.TokenType.BEARER,
-                jwt.getTokenValue(),
-                jwt.getIssuedAt(),
-                jwt.getExpiresAt()
-        );
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (authorization != null && authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return authorization.substring(BEARER_PREFIX.length()).trim();
+        }
 
-        return new BearerTokenAuthentication(principal, accessToken, authorities);
+        return null;
     }
 }
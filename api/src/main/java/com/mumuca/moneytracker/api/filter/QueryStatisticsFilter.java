@@ -0,0 +1,137 @@
+package com.mumuca.moneytracker.api.filter;
+
+import com.mumuca.moneytracker.api.metrics.QueryCounter;
+import com.mumuca.moneytracker.api.metrics.QueryStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements each request executes and the time spent in them, through {@link QueryCounter}.
+ * <p>
+ * Every request feeds the {@code http.server.requests.db.statements} summary and the
+ * {@code http.server.requests.db.time} timer, tagged like {@code http.server.requests}. A warning is logged
+ * when a request runs more than {@code sql.statistics.max-statements} statements. A warning is also logged,
+ * and {@code http.server.requests.db.repeated} is incremented, when one statement shape runs more than
+ * {@code sql.statistics.max-repeats} times, which is what an N+1 looks like.
+ * <p>
+ * With {@code sql.statistics.response-headers} on, meant for development, responses also carry
+ * {@code X-DB-Statements} and {@code X-DB-Time-Ms}. The body is buffered for that, so the headers are still
+ * writable once the handler is done.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class QueryStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-DB-Statements";
+    public static final String TIME_HEADER = "X-DB-Time-Ms";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    @Value("${sql.statistics.response-headers:false}")
+    private boolean responseHeaders;
+
+    @Value("${sql.statistics.max-statements:20}")
+    private int maxStatements;
+
+    @Value("${sql.statistics.max-repeats:5}")
+    private int maxRepeats;
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryStatisticsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        QueryStatistics statistics = QueryCounter.start();
+        ContentCachingResponseWrapper bufferedResponse = responseHeaders
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+
+        try {
+            filterChain.doFilter(request, bufferedResponse != null ? bufferedResponse : response);
+        } finally {
+            QueryCounter.stop();
+
+            String uri = uriTemplate(request);
+            record(request.getMethod(), uri, statistics);
+
+            if (bufferedResponse != null) {
+                bufferedResponse.setHeader(STATEMENTS_HEADER, String.valueOf(statistics.getStatementCount()));
+                bufferedResponse.setHeader(TIME_HEADER, String.valueOf(statistics.getElapsedTime().toMillis()));
+                bufferedResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(String method, String uri, QueryStatistics statistics) {
+        int statements = statistics.getStatementCount();
+
+        DistributionSummary.builder("http.server.requests.db.statements")
+                .description("SQL statements executed per HTTP request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+
+        Timer.builder("http.server.requests.db.time")
+                .description("Time spent executing SQL statements per HTTP request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getElapsedTime());
+
+        if (statements > maxStatements) {
+            log.warn(
+                    "{} {} executed {} SQL statements in {} ms",
+                    method, uri, statements, statistics.getElapsedTime().toMillis()
+            );
+        }
+
+        statistics.getMostRepeatedShape()
+                .filter(shape -> shape.getValue() > maxRepeats)
+                .ifPresent(shape -> reportRepeatedShape(method, uri, shape));
+    }
+
+    private void reportRepeatedShape(String method, String uri, Map.Entry<String, Integer> shape) {
+        Counter.builder("http.server.requests.db.repeated")
+                .description("HTTP requests that executed the same SQL statement shape too many times")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .increment();
+
+        log.warn(
+                "{} {} executed the same SQL statement {} times, possible N+1: {}",
+                method, uri, shape.getValue(), shape.getKey()
+        );
+    }
+
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
@@ -0,0 +1,39 @@
+package com.mumuca.moneytracker.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("com.mumuca.moneytracker.BalanceMutated")
+@Label("Balance Mutated")
+@Description("An account balance was withdrawn from or deposited into, including any currency conversion")
+@Category({"Money Tracker", "Accounts"})
+@StackTrace(false)
+@Setter
+public class BalanceMutatedEvent extends Event {
+
+    public static final String WITHDRAWAL = "withdrawal";
+    public static final String DEPOSIT = "deposit";
+
+    @Label("Account Id")
+    private String accountId;
+
+    @Label("Mutation")
+    @Description("withdrawal or deposit")
+    private String mutation;
+
+    @Label("Amount")
+    @Description("Amount in the account currency, as a plain decimal string")
+    private String amount;
+
+    @Label("Currency")
+    private String currency;
+
+    @Label("Converted")
+    @Description("Whether the amount had to be converted from the transfer currency")
+    private boolean converted;
+}
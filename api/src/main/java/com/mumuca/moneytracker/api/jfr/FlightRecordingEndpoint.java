@@ -0,0 +1,186 @@
+package com.mumuca.moneytracker.api.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Starts and stops JDK Flight Recorder recordings at {@code /actuator/jfr}:
+ * <ul>
+ *     <li>{@code GET} lists the recordings started here.</li>
+ *     <li>{@code POST} with {@code {"profile": "domain", "duration": "10m"}} starts one. Both fields are optional.</li>
+ *     <li>{@code DELETE /actuator/jfr/{id}} stops it.</li>
+ * </ul>
+ * Every recording is written under {@code jfr.recordings.directory}. The file is written when the recording is
+ * stopped, or when its duration runs out. The duration is capped at {@code jfr.recordings.max-duration}.
+ * <p>
+ * Every profile records the application's own events ({@link TransferRegisteredEvent}, {@link TransferPaidEvent},
+ * {@link BalanceMutatedEvent} and {@link JwtDecodedEvent}) without a threshold. {@link Profile#DEFAULT} and
+ * {@link Profile#PROFILE} add the JDK's own settings of the same name.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+    private static final String NAME_PREFIX = "moneytracker-";
+
+    private static final List<Class<? extends Event>> DOMAIN_EVENTS = List.of(
+            TransferRegisteredEvent.class,
+            TransferPaidEvent.class,
+            BalanceMutatedEvent.class,
+            JwtDecodedEvent.class
+    );
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter
+            .ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
+
+    @Value("${jfr.recordings.directory:${java.io.tmpdir}/moneytracker-recordings}")
+    private Path directory;
+
+    @Value("${jfr.recordings.max-duration:1h}")
+    private Duration maxDuration;
+
+    public enum Profile {
+        /**
+         * Only the application's own events, the cheapest to leave running.
+         */
+        DOMAIN(null),
+        /**
+         * The JDK's continuous profile, below 1% overhead, plus the application's events.
+         */
+        DEFAULT("default"),
+        /**
+         * The JDK's profiling profile, around 2% overhead, plus the application's events.
+         */
+        PROFILE("profile");
+
+        private final String configuration;
+
+        Profile(String configuration) {
+            this.configuration = configuration;
+        }
+    }
+
+    public record RecordingDescriptor(
+            long id,
+            String name,
+            RecordingState state,
+            Instant startTime,
+            Duration duration,
+            String destination
+    ) {
+        static RecordingDescriptor of(Recording recording) {
+            return new RecordingDescriptor(
+                    recording.getId(),
+                    recording.getName(),
+                    recording.getState(),
+                    recording.getStartTime(),
+                    recording.getDuration(),
+                    recording.getDestination() != null ? recording.getDestination().toString() : null
+            );
+        }
+    }
+
+    @ReadOperation
+    public List<RecordingDescriptor> recordings() {
+        if (!FlightRecorder.isAvailable()) {
+            return List.of();
+        }
+
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getName().startsWith(NAME_PREFIX))
+                .map(RecordingDescriptor::of)
+                .toList();
+    }
+
+    @WriteOperation
+    public RecordingDescriptor start(@Nullable Profile profile, @Nullable Duration duration)
+            throws IOException, ParseException {
+        if (!FlightRecorder.isAvailable()) {
+            throw new IllegalStateException("JDK Flight Recorder is not available in this JVM.");
+        }
+
+        Profile selectedProfile = profile != null ? profile : Profile.DOMAIN;
+        Duration selectedDuration = duration != null && duration.compareTo(maxDuration) < 0 ? duration : maxDuration;
+
+        Recording recording = selectedProfile.configuration != null
+                ? new Recording(Configuration.getConfiguration(selectedProfile.configuration))
+                : new Recording();
+
+        for (Class<? extends Event> eventClass : DOMAIN_EVENTS) {
+            recording.enable(eventClass).withoutThreshold();
+        }
+
+        String name = NAME_PREFIX + selectedProfile.name().toLowerCase(Locale.ROOT);
+
+        Files.createDirectories(directory);
+
+        recording.setName(name);
+        recording.setToDisk(true);
+        recording.setDuration(selectedDuration);
+        recording.setDestination(directory.resolve(
+                name + "-" + FILE_TIMESTAMP.format(Instant.now()) + "-" + recording.getId() + ".jfr"
+        ));
+        recording.start();
+
+        log.info("Started flight recording {} ({}) for up to {}", recording.getId(), name, selectedDuration);
+
+        return RecordingDescriptor.of(recording);
+    }
+
+    /**
+     * Stops the recording, which writes it to its destination, and closes it.
+     *
+     * @return the closed recording, or {@code null} (404) when no recording with that id was started here
+     */
+    @DeleteOperation
+    public RecordingDescriptor stop(@Selector long id) {
+        if (!FlightRecorder.isAvailable()) {
+            return null;
+        }
+
+        Recording recording = FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(candidate -> candidate.getId() == id && candidate.getName().startsWith(NAME_PREFIX))
+                .findFirst()
+                .orElse(null);
+
+        if (recording == null) {
+            return null;
+        }
+
+        if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+            recording.stop();
+        }
+
+        recording.close();
+        RecordingDescriptor descriptor = RecordingDescriptor.of(recording);
+
+        log.info("Stopped flight recording {}, written to {}", id, descriptor.destination());
+
+        return descriptor;
+    }
+}
@@ -0,0 +1,25 @@
+package com.mumuca.moneytracker.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("com.mumuca.moneytracker.JwtDecoded")
+@Label("JWT Decoded")
+@Description("A bearer token was decoded, either from the verified token cache or by checking its signature")
+@Category({"Money Tracker", "Security"})
+@StackTrace(false)
+@Setter
+public class JwtDecodedEvent extends Event {
+
+    @Label("Cached")
+    @Description("Whether the token was found in the verified token cache")
+    private boolean cached;
+
+    @Label("Success")
+    private boolean success;
+}
@@ -0,0 +1,35 @@
+package com.mumuca.moneytracker.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("com.mumuca.moneytracker.TransferPaid")
+@Label("Transfer Paid")
+@Description("A transfer was paid or unpaid")
+@Category({"Money Tracker", "Transfers"})
+@StackTrace(false)
+@Setter
+public class TransferPaidEvent extends Event {
+
+    public static final String PAY = "pay";
+    public static final String UNPAY = "unpay";
+
+    @Label("Transfer Id")
+    private String transferId;
+
+    @Label("Action")
+    @Description("pay or unpay")
+    private String action;
+
+    @Label("Conversion Path")
+    @Description("Which side needed a currency conversion: NONE, SOURCE, DESTINATION or BOTH")
+    private String conversionPath;
+
+    @Label("Currency")
+    private String currency;
+}
@@ -0,0 +1,34 @@
+package com.mumuca.moneytracker.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("com.mumuca.moneytracker.TransferRegistered")
+@Label("Transfer Registered")
+@Description("A unique or repeated transfer was registered with all of its installments")
+@Category({"Money Tracker", "Transfers"})
+@StackTrace(false)
+@Setter
+public class TransferRegisteredEvent extends Event {
+
+    @Label("Recurrence Id")
+    private String recurrenceId;
+
+    @Label("Recurrence Type")
+    private String recurrenceType;
+
+    @Label("Recurrence Interval")
+    private String recurrenceInterval;
+
+    @Label("Installments")
+    private int installments;
+
+    @Label("Paid")
+    @Description("Whether the first installment was registered as paid, moving the account balances")
+    private boolean paid;
+}
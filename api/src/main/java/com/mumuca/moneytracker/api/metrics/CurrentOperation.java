@@ -0,0 +1,42 @@
+package com.mumuca.moneytracker.api.metrics;
+
+/**
+ * The service operation the current thread is running, named like the {@code operation} tag of
+ * {@link OperationMetricsAspect#SERVICE_TIMER} ({@code TransferService.payTransfer}, ...). Set by
+ * {@link OperationMetricsAspect} around every service call, so anything below it, such as a SQL statement,
+ * can tell where it came from.
+ * <p>
+ * Like {@link QueryCounter}, the value stays on the thread that set it; {@link QueryCounter#propagate(Runnable)}
+ * carries it over to work handed to other threads.
+ */
+public final class CurrentOperation {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private CurrentOperation() {
+    }
+
+    /**
+     * @return the operation running on this thread, or {@code null} outside of any service call
+     */
+    public static String get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return the operation that was running before, to be passed back to {@link #restore(String)}
+     */
+    static String enter(String operation) {
+        String previous = CURRENT.get();
+        CURRENT.set(operation);
+        return previous;
+    }
+
+    static void restore(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
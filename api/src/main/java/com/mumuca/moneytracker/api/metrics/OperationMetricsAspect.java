@@ -0,0 +1,101 @@
+package com.mumuca.moneytracker.api.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every call to the account and transfer services. Timers are tagged with {@code operation}
+ * ({@code TransferService.payTransfer}, {@code AccountService.listActiveAccounts}, ...), {@code outcome}
+ * ({@code success} or {@code error}) and {@code exception}, the simple class name of what was thrown or
+ * {@code none}. While a service call runs, its name is also available from
+ * {@link CurrentOperation}.
+ * <p>
+ * Repository calls are already timed by Spring Boot as {@code spring.data.repository.invocations}. Percentile
+ * histograms are switched on per timer name under {@code management.metrics.distribution}.
+ */
+@Aspect
+@Component
+public class OperationMetricsAspect {
+
+    public static final String SERVICE_TIMER = "service.invocations";
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Method, Operation> serviceOperations = new ConcurrentHashMap<>();
+
+    /**
+     * The success timer is the one hit on nearly every call, so it is registered once up front.
+     */
+    private record Operation(String name, Timer successTimer) {}
+
+    public OperationMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.mumuca.moneytracker.api.account.service.TransferService+.*(..))"
+            + " || execution(public * com.mumuca.moneytracker.api.account.service.AccountService+.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+
+        Operation operation = serviceOperations.computeIfAbsent(
+                method,
+                key -> operation(serviceName(key.getDeclaringClass()) + "." + key.getName())
+        );
+
+        String previous = CurrentOperation.enter(operation.name());
+
+        try {
+            return time(operation, joinPoint);
+        } finally {
+            CurrentOperation.restore(previous);
+        }
+    }
+
+    private Object time(Operation operation, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(operation.successTimer());
+            return result;
+        } catch (Throwable throwable) {
+            sample.stop(timer(operation.name(), ERROR, throwable.getClass().getSimpleName()));
+            throw throwable;
+        }
+    }
+
+    private Operation operation(String name) {
+        return new Operation(name, timer(name, SUCCESS, NO_EXCEPTION));
+    }
+
+    private Timer timer(String operation, String outcome, String exception) {
+        return Timer.builder(SERVICE_TIMER)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    private static String serviceName(Class<?> declaringClass) {
+        for (Class<?> serviceInterface : declaringClass.getInterfaces()) {
+            if (serviceInterface.getPackageName().startsWith("com.mumuca.moneytracker.api")) {
+                return serviceInterface.getSimpleName();
+            }
+        }
+
+        return declaringClass.getSimpleName();
+    }
+}
@@ -0,0 +1,75 @@
+package com.mumuca.moneytracker.api.metrics;
+
+/**
+ * Binds a {@link QueryStatistics} to the current unit of work. {@code QueryStatisticsFilter} starts one per
+ * HTTP request; tests can do the same around the code they exercise:
+ * <pre>{@code
+ * QueryStatistics statistics = QueryCounter.start();
+ * try {
+ *     transferService.listTransfers(...);
+ * } finally {
+ *     QueryCounter.stop();
+ * }
+ * assertThat(statistics.getStatementCount()).isEqualTo(2);
+ * }</pre>
+ * The binding is not inherited by other threads: a pool thread created during a request would otherwise keep
+ * counting against it long after it finished. Work a request fans out to other threads must be wrapped with
+ * {@link #propagate(Runnable)} to be counted.
+ *
+ * @see com.mumuca.moneytracker.api.filter.QueryStatisticsFilter
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static QueryStatistics start() {
+        QueryStatistics statistics = new QueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps a task so it runs with the statistics and {@link CurrentOperation} bound on the calling thread,
+     * then leaves the running thread as it found it.
+     */
+    public static Runnable propagate(Runnable task) {
+        QueryStatistics statistics = CURRENT.get();
+        String operation = CurrentOperation.get();
+
+        return () -> {
+            QueryStatistics previousStatistics = CURRENT.get();
+            String previousOperation = CurrentOperation.enter(operation);
+            bind(statistics);
+
+            try {
+                task.run();
+            } finally {
+                bind(previousStatistics);
+                CurrentOperation.restore(previousOperation);
+            }
+        };
+    }
+
+    private static void bind(QueryStatistics statistics) {
+        if (statistics == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(statistics);
+        }
+    }
+
+    static void record(String sql, long nanos) {
+        QueryStatistics statistics = CURRENT.get();
+
+        if (statistics != null) {
+            statistics.record(sql, nanos);
+        }
+    }
+}
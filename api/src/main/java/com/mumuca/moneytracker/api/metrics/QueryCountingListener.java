@@ -0,0 +1,31 @@
+package com.mumuca.moneytracker.api.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Feeds every statement that goes through the proxied {@code DataSource} into the {@link QueryCounter} of the
+ * current unit of work. A JDBC batch counts as one statement per query in it, sharing the batch's time.
+ * <p>
+ * Expects the proxy to time statements in nanoseconds, see {@code DataSourceProxyConfig}.
+ */
+@Component
+public class QueryCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+        long nanos = executionInfo.getElapsedTime() / Math.max(1, queries.size());
+
+        for (QueryInfo query : queries) {
+            QueryCounter.record(query.getQuery(), nanos);
+        }
+    }
+}
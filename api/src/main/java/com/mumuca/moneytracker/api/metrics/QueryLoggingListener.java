@@ -0,0 +1,244 @@
+package com.mumuca.moneytracker.api.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs a sample of the SQL statements that go through the proxied {@code DataSource}, plus every statement
+ * slower than {@code sql.logging.slow-threshold}, as one structured event on the {@code sql.queries} logger.
+ * Slow statements are logged at WARN and sampled ones at INFO, so the async appender sheds the sampled ones
+ * first under pressure.
+ * <p>
+ * Each event carries:
+ * <ul>
+ *     <li>{@code sql.query}: the statement, whitespace and IN lists collapsed as in {@link QueryStatistics#shapeOf(String)}</li>
+ *     <li>{@code sql.parameters}: the type of each bind parameter, never its value</li>
+ *     <li>{@code sql.operation}: the service operation that ran it, from {@link CurrentOperation}</li>
+ *     <li>{@code sql.rows}: rows read from the result set, or rows updated</li>
+ *     <li>{@code sql.duration_us}, {@code sql.batch_size}, {@code sql.slow} and {@code sql.success}</li>
+ * </ul>
+ * Rows are counted by wrapping the result set in {@link #track(ResultSet)}, which {@code DataSourceProxyConfig}
+ * calls for every result set. Only the result sets of statements that will be logged are wrapped, and their
+ * event is written when the result set is closed.
+ * <p>
+ * Expects the proxy to time statements in nanoseconds, see {@code DataSourceProxyConfig}.
+ */
+@Slf4j(topic = "sql.queries")
+@Component
+public class QueryLoggingListener implements QueryExecutionListener {
+
+    private static final String NO_OPERATION = "none";
+
+    @Value("${sql.logging.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${sql.logging.slow-threshold:30ms}")
+    private Duration slowThreshold;
+
+    private final ThreadLocal<PendingQuery> pending = new ThreadLocal<>();
+
+    private static final class PendingQuery {
+        private final long startedAt = System.nanoTime();
+        private final boolean sampled;
+        private RowCounter rowCounter;
+
+        private PendingQuery(boolean sampled) {
+            this.sampled = sampled;
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+        pending.set(new PendingQuery(sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate));
+    }
+
+    /**
+     * Called by the proxy with the result set of the statement that was just executed, before
+     * {@link #afterQuery}.
+     *
+     * @return {@code resultSet} itself, or a wrapper that counts its rows when the statement will be logged
+     */
+    public ResultSet track(ResultSet resultSet) {
+        PendingQuery query = pending.get();
+
+        if (query == null || query.rowCounter != null
+                || !(query.sampled || System.nanoTime() - query.startedAt >= slowThreshold.toNanos())) {
+            return resultSet;
+        }
+
+        query.rowCounter = new RowCounter(resultSet);
+
+        return (ResultSet) Proxy.newProxyInstance(
+                QueryLoggingListener.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class},
+                query.rowCounter
+        );
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+        PendingQuery query = pending.get();
+        pending.remove();
+
+        boolean slow = executionInfo.getElapsedTime() >= slowThreshold.toNanos();
+
+        if (query == null || !(query.sampled || slow)) {
+            return;
+        }
+
+        Entry entry = new Entry(
+                queries.isEmpty() ? "" : QueryStatistics.shapeOf(queries.getFirst().getQuery()),
+                queries.isEmpty() || queries.getFirst().getParametersList().isEmpty()
+                        ? List.of()
+                        : parameterShape(queries.getFirst().getParametersList().getFirst()),
+                CurrentOperation.get(),
+                Duration.ofNanos(executionInfo.getElapsedTime()),
+                Math.max(executionInfo.getBatchSize(), queries.size()),
+                slow,
+                executionInfo.isSuccess()
+        );
+
+        if (query.rowCounter != null && executionInfo.isSuccess()) {
+            query.rowCounter.entry = entry;
+        } else {
+            entry.write(updatedRows(executionInfo.getResult()));
+        }
+    }
+
+    /**
+     * Turns the bind calls of one statement into the type of each parameter, in parameter order:
+     * {@code setString} becomes {@code string}, {@code setObject} with a {@code UUID} becomes {@code uuid},
+     * {@code setNull} becomes {@code null}.
+     */
+    static List<String> parameterShape(List<ParameterSetOperation> operations) {
+        List<ParameterSetOperation> ordered = new ArrayList<>(operations);
+        ordered.sort(Comparator.comparingInt(QueryLoggingListener::parameterIndex));
+
+        List<String> shape = new ArrayList<>(ordered.size());
+
+        for (ParameterSetOperation operation : ordered) {
+            shape.add(parameterType(operation));
+        }
+
+        return shape;
+    }
+
+    private static int parameterIndex(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        return args.length > 0 && args[0] instanceof Integer index ? index : Integer.MAX_VALUE;
+    }
+
+    private static String parameterType(ParameterSetOperation operation) {
+        if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+            return "null";
+        }
+
+        String method = operation.getMethod().getName();
+        Object[] args = operation.getArgs();
+
+        if (method.equals("setObject") && args.length > 1 && args[1] != null) {
+            return args[1].getClass().getSimpleName().toLowerCase(Locale.ROOT);
+        }
+
+        return method.startsWith("set") ? method.substring(3).toLowerCase(Locale.ROOT) : method;
+    }
+
+    private static Long updatedRows(Object result) {
+        return switch (result) {
+            case Integer count -> (long) count;
+            case Long count -> count;
+            case int[] counts -> {
+                long total = 0;
+                for (int count : counts) {
+                    total += Math.max(count, 0);
+                }
+                yield total;
+            }
+            case null, default -> null;
+        };
+    }
+
+    private record Entry(
+            String query,
+            List<String> parameters,
+            String operation,
+            Duration duration,
+            int batchSize,
+            boolean slow,
+            boolean success
+    ) {
+        void write(Long rows) {
+            log.atLevel(slow ? Level.WARN : Level.INFO)
+                    .addKeyValue("sql.query", query)
+                    .addKeyValue("sql.parameters", parameters)
+                    .addKeyValue("sql.operation", operation != null ? operation : NO_OPERATION)
+                    .addKeyValue("sql.rows", rows)
+                    .addKeyValue("sql.duration_us", duration.toNanos() / 1_000)
+                    .addKeyValue("sql.batch_size", batchSize)
+                    .addKeyValue("sql.slow", slow)
+                    .addKeyValue("sql.success", success)
+                    .log("{} query took {} ms", slow ? "Slow" : "Sampled", duration.toMillis());
+        }
+    }
+
+    /**
+     * Counts the rows read through {@code next()} and writes the entry once the result set is closed.
+     */
+    private static final class RowCounter implements InvocationHandler {
+
+        private final ResultSet target;
+        private long rows;
+        private Entry entry;
+
+        private RowCounter(ResultSet target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result;
+
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException exception) {
+                throw exception.getTargetException();
+            }
+
+            switch (method.getName()) {
+                case "next" -> {
+                    if (Boolean.TRUE.equals(result)) {
+                        rows++;
+                    }
+                }
+                case "close" -> {
+                    if (entry != null) {
+                        entry.write(rows);
+                        entry = null;
+                    }
+                }
+                default -> {
+                }
+            }
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.mumuca.moneytracker.api.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements executed within one unit of work, usually an HTTP request. Statements are also grouped by
+ * shape (the SQL text with its placeholders), which is how an N+1 shows up: the same shape executed once per
+ * row of an earlier result.
+ * <p>
+ * Safe to update from several threads, since services fan out lookups to virtual threads.
+ */
+public final class QueryStatistics {
+
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_MEMOIZED_SHAPES = 4096;
+    private static final Map<String, String> SHAPES = new ConcurrentHashMap<>();
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong elapsedNanos = new AtomicLong();
+    private final Map<String, AtomicInteger> executionsByShape = new ConcurrentHashMap<>();
+
+    void record(String sql, long nanos) {
+        statements.incrementAndGet();
+        elapsedNanos.addAndGet(nanos);
+        executionsByShape.computeIfAbsent(shapeOf(sql), shape -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public int getStatementCount() {
+        return statements.get();
+    }
+
+    public Duration getElapsedTime() {
+        return Duration.ofNanos(elapsedNanos.get());
+    }
+
+    public int getExecutions(String shape) {
+        AtomicInteger executions = executionsByShape.get(shapeOf(shape));
+        return executions == null ? 0 : executions.get();
+    }
+
+    /**
+     * The shape executed the most times, with its execution count.
+     */
+    public Optional<Map.Entry<String, Integer>> getMostRepeatedShape() {
+        return executionsByShape.entrySet()
+                .stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().get()))
+                .max(Map.Entry.comparingByValue());
+    }
+
+    /**
+     * Collapses whitespace and {@code IN} lists, so statements that only differ in their number of bind
+     * parameters share a shape. Hibernate issues a small, fixed set of SQL strings, so shapes are memoized.
+     */
+    static String shapeOf(String sql) {
+        String shape = SHAPES.get(sql);
+
+        if (shape != null) {
+            return shape;
+        }
+
+        shape = WHITESPACE.matcher(PLACEHOLDER_LIST.matcher(sql.strip()).replaceAll("(?)")).replaceAll(" ");
+
+        if (SHAPES.size() < MAX_MEMOIZED_SHAPES) {
+            SHAPES.put(sql, shape);
+        }
+
+        return shape;
+    }
+}
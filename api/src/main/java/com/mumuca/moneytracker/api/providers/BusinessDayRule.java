@@ -0,0 +1,55 @@
+package com.mumuca.moneytracker.api.providers;
+
+public enum BusinessDayRule implements DateAdjustmentRule {
+    NONE {
+        @Override
+        public int adjust(int epochDay, HolidayCalendar calendar) {
+            return epochDay;
+        }
+    },
+    FOLLOWING {
+        @Override
+        public int adjust(int epochDay, HolidayCalendar calendar) {
+            while (!calendar.isBusinessDay(epochDay)) {
+                epochDay++;
+            }
+            return epochDay;
+        }
+    },
+    PRECEDING {
+        @Override
+        public int adjust(int epochDay, HolidayCalendar calendar) {
+            while (!calendar.isBusinessDay(epochDay)) {
+                epochDay--;
+            }
+            return epochDay;
+        }
+    },
+    /**
+     * Next business day, unless it falls in the following month, in which case the previous one.
+     */
+    MODIFIED_FOLLOWING {
+        @Override
+        public int adjust(int epochDay, HolidayCalendar calendar) {
+            int following = FOLLOWING.adjust(epochDay, calendar);
+
+            if (EpochDays.month(following) != EpochDays.month(epochDay)) {
+                return PRECEDING.adjust(epochDay, calendar);
+            }
+
+            return following;
+        }
+    },
+    END_OF_MONTH {
+        @Override
+        public int adjust(int epochDay, HolidayCalendar calendar) {
+            return EpochDays.lastDayOfMonth(epochDay);
+        }
+    },
+    LAST_BUSINESS_DAY_OF_MONTH {
+        @Override
+        public int adjust(int epochDay, HolidayCalendar calendar) {
+            return PRECEDING.adjust(EpochDays.lastDayOfMonth(epochDay), calendar);
+        }
+    }
+}
@@ -4,4 +4,12 @@ import java.math.BigDecimal;
 
 public interface CurrencyProvider {
     BigDecimal convertCurrency(BigDecimal amount, String fromCurrency, String toCurrency);
+
+    /**
+     * Converts every {@code amounts[i]} from {@code fromCurrencies[i]} into {@code toCurrency}.
+     * <p>
+     * Each exchange rate is resolved at most once per call, so the whole batch is converted
+     * against the same rate snapshot.
+     */
+    BigDecimal[] convertCurrencies(BigDecimal[] amounts, String[] fromCurrencies, String toCurrency);
 }
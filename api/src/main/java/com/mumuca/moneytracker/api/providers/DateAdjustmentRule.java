@@ -0,0 +1,10 @@
+package com.mumuca.moneytracker.api.providers;
+
+/**
+ * Moves a raw recurrence date (encoded as an epoch day) according to a holiday calendar.
+ * {@link BusinessDayRule} holds the standard conventions.
+ */
+@FunctionalInterface
+public interface DateAdjustmentRule {
+    int adjust(int epochDay, HolidayCalendar calendar);
+}
@@ -4,7 +4,39 @@ import com.mumuca.moneytracker.api.account.model.RecurrenceInterval;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface DateProvider {
     List<LocalDate> generateDates(LocalDate startDate, RecurrenceInterval frequency, int occurrences);
+
+    /**
+     * Same occurrences as {@link #generateDates(LocalDate, RecurrenceInterval, int)}, each one moved by
+     * {@code rule} against the holiday calendar identified by {@code calendarId}.
+     */
+    List<LocalDate> generateDates(
+            LocalDate startDate,
+            RecurrenceInterval frequency,
+            int occurrences,
+            DateAdjustmentRule rule,
+            String calendarId
+    );
+
+    /**
+     * Lazily yields every occurrence of the recurrence, starting at {@code startDate}.
+     * <p>
+     * The stream is unbounded, so callers must limit it (e.g. {@code limit} or {@code takeWhile}).
+     */
+    Stream<LocalDate> streamDates(LocalDate startDate, RecurrenceInterval frequency);
+
+    LocalDate nextOccurrenceOnOrAfter(LocalDate startDate, RecurrenceInterval frequency, LocalDate date);
+
+    /**
+     * Lazily yields the occurrences that fall within {@code [from, to]}, both inclusive.
+     */
+    Stream<LocalDate> occurrencesBetween(
+            LocalDate startDate,
+            RecurrenceInterval frequency,
+            LocalDate from,
+            LocalDate to
+    );
 }
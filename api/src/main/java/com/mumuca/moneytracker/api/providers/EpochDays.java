@@ -0,0 +1,174 @@
+package com.mumuca.moneytracker.api.providers;
+
+import com.mumuca.moneytracker.api.account.model.RecurrenceInterval;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Date arithmetic on {@code int} epoch days (days since 1970-01-01, the same value as
+ * {@link LocalDate#toEpochDay()}), for loops that would otherwise allocate a {@link LocalDate}
+ * per step.
+ * <p>
+ * Month and year steps clamp to the end of the month exactly like {@link LocalDate#plusMonths(long)}
+ * and {@link LocalDate#plusYears(long)}. Civil conversions follow Howard Hinnant's
+ * {@code days_from_civil}/{@code civil_from_days} algorithms.
+ */
+public final class EpochDays {
+
+    private static final int DAYS_0000_TO_1970 = 719468;
+    private static final int DAYS_PER_ERA = 146097;
+
+    private EpochDays() {}
+
+    public static int of(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    public static int of(int year, int month, int dayOfMonth) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    public static LocalDate toLocalDate(int epochDay) {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    public static int year(int epochDay) {
+        int z = epochDay + DAYS_0000_TO_1970;
+        int era = Math.floorDiv(z, DAYS_PER_ERA);
+        int dayOfEra = z - era * DAYS_PER_ERA;
+        int yearOfEra = yearOfEra(dayOfEra);
+        int month = monthOf(shiftedDayOfYear(dayOfEra, yearOfEra));
+        return yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+    }
+
+    public static int month(int epochDay) {
+        int z = epochDay + DAYS_0000_TO_1970;
+        int dayOfEra = z - Math.floorDiv(z, DAYS_PER_ERA) * DAYS_PER_ERA;
+        return monthOf(shiftedDayOfYear(dayOfEra, yearOfEra(dayOfEra)));
+    }
+
+    public static int dayOfMonth(int epochDay) {
+        int z = epochDay + DAYS_0000_TO_1970;
+        int dayOfEra = z - Math.floorDiv(z, DAYS_PER_ERA) * DAYS_PER_ERA;
+        int dayOfYear = shiftedDayOfYear(dayOfEra, yearOfEra(dayOfEra));
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        return dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+    }
+
+    /**
+     * ISO day of week, from 1 (Monday) to 7 (Sunday).
+     */
+    public static int dayOfWeek(int epochDay) {
+        return Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    public static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    public static int lastDayOfMonth(int epochDay) {
+        int year = year(epochDay);
+        int month = month(epochDay);
+        return of(year, month, lengthOfMonth(year, month));
+    }
+
+    public static int plusDays(int epochDay, int days) {
+        return epochDay + days;
+    }
+
+    public static int plusWeeks(int epochDay, int weeks) {
+        return epochDay + weeks * 7;
+    }
+
+    public static int plusMonths(int epochDay, int months) {
+        return plusMonths(year(epochDay), month(epochDay), dayOfMonth(epochDay), months);
+    }
+
+    public static int plusYears(int epochDay, int years) {
+        return plusMonths(epochDay, years * 12);
+    }
+
+    /**
+     * Epoch day of the occurrence at {@code index} (0 being {@code startEpochDay} itself).
+     */
+    public static int occurrence(int startEpochDay, RecurrenceInterval frequency, int index) {
+        int steps = index * frequency.getStep();
+
+        return switch (frequency.getUnit()) {
+            case DAYS -> plusDays(startEpochDay, steps);
+            case WEEKS -> plusWeeks(startEpochDay, steps);
+            case MONTHS -> plusMonths(startEpochDay, steps);
+            case YEARS -> plusYears(startEpochDay, steps);
+            default -> throw new IllegalArgumentException("Unsupported recurrence unit: " + frequency.getUnit());
+        };
+    }
+
+    /**
+     * Same dates as {@link DateProvider#generateDates}, encoded as epoch days.
+     */
+    public static int[] generate(int startEpochDay, RecurrenceInterval frequency, int occurrences) {
+        int[] dates = new int[occurrences];
+
+        switch (frequency.getUnit()) {
+            case DAYS, WEEKS -> {
+                int stride = frequency.getUnit() == ChronoUnit.WEEKS
+                        ? frequency.getStep() * 7
+                        : frequency.getStep();
+
+                for (int i = 0; i < occurrences; i++) {
+                    dates[i] = startEpochDay + i * stride;
+                }
+            }
+            case MONTHS, YEARS -> {
+                int monthStride = frequency.getUnit() == ChronoUnit.YEARS
+                        ? frequency.getStep() * 12
+                        : frequency.getStep();
+
+                int year = year(startEpochDay);
+                int month = month(startEpochDay);
+                int dayOfMonth = dayOfMonth(startEpochDay);
+
+                for (int i = 0; i < occurrences; i++) {
+                    dates[i] = plusMonths(year, month, dayOfMonth, i * monthStride);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported recurrence unit: " + frequency.getUnit());
+        }
+
+        return dates;
+    }
+
+    private static int plusMonths(int year, int month, int dayOfMonth, int months) {
+        int totalMonths = year * 12 + (month - 1) + months;
+        int newYear = Math.floorDiv(totalMonths, 12);
+        int newMonth = Math.floorMod(totalMonths, 12) + 1;
+        return of(newYear, newMonth, Math.min(dayOfMonth, lengthOfMonth(newYear, newMonth)));
+    }
+
+    private static int yearOfEra(int dayOfEra) {
+        return (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    }
+
+    private static int shiftedDayOfYear(int dayOfEra, int yearOfEra) {
+        return dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    }
+
+    private static int monthOf(int shiftedDayOfYear) {
+        int shiftedMonth = (5 * shiftedDayOfYear + 2) / 153;
+        return shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+    }
+}
@@ -0,0 +1,68 @@
+package com.mumuca.moneytracker.api.providers;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Immutable holiday calendar compiled into one bitset per year (bit {@code n} set when the
+ * {@code n}-th day of the year is a holiday), so business-day checks are O(1) and allocation-free.
+ * Saturdays and Sundays are never business days; years outside the compiled range only have weekends.
+ */
+public final class HolidayCalendar {
+
+    public static final HolidayCalendar WEEKENDS_ONLY = new HolidayCalendar("WEEKENDS_ONLY", 0, new long[0][]);
+
+    private static final int WORDS_PER_YEAR = 6;
+
+    private final String id;
+    private final int firstYear;
+    private final long[][] holidaysByYear;
+
+    private HolidayCalendar(String id, int firstYear, long[][] holidaysByYear) {
+        this.id = id;
+        this.firstYear = firstYear;
+        this.holidaysByYear = holidaysByYear;
+    }
+
+    public static HolidayCalendar compile(String id, Collection<LocalDate> holidays) {
+        if (holidays.isEmpty()) {
+            return new HolidayCalendar(id, 0, new long[0][]);
+        }
+
+        int firstYear = holidays.stream().mapToInt(LocalDate::getYear).min().orElseThrow();
+        int lastYear = holidays.stream().mapToInt(LocalDate::getYear).max().orElseThrow();
+
+        long[][] holidaysByYear = new long[lastYear - firstYear + 1][WORDS_PER_YEAR];
+
+        for (LocalDate holiday : holidays) {
+            int dayOfYear = holiday.getDayOfYear() - 1;
+            holidaysByYear[holiday.getYear() - firstYear][dayOfYear >>> 6] |= 1L << dayOfYear;
+        }
+
+        return new HolidayCalendar(id, firstYear, holidaysByYear);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isHoliday(int epochDay) {
+        int year = EpochDays.year(epochDay);
+        int yearIndex = year - firstYear;
+
+        if (yearIndex < 0 || yearIndex >= holidaysByYear.length) {
+            return false;
+        }
+
+        int dayOfYear = epochDay - EpochDays.of(year, 1, 1);
+        return (holidaysByYear[yearIndex][dayOfYear >>> 6] & (1L << dayOfYear)) != 0;
+    }
+
+    public boolean isBusinessDay(int epochDay) {
+        return EpochDays.dayOfWeek(epochDay) <= 5 && !isHoliday(epochDay);
+    }
+
+    public boolean isBusinessDay(LocalDate date) {
+        return isBusinessDay(EpochDays.of(date));
+    }
+}
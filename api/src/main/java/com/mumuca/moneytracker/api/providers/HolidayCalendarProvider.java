@@ -0,0 +1,9 @@
+package com.mumuca.moneytracker.api.providers;
+
+public interface HolidayCalendarProvider {
+    /**
+     * @throws IllegalArgumentException if there is no calendar with that id. A controller taking the id from a
+     *                                  request is the one to turn that into a client error.
+     */
+    HolidayCalendar getCalendar(String calendarId);
+}
@@ -4,6 +4,8 @@ import com.mumuca.moneytracker.api.providers.CurrencyProvider;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
 
 @Component
 public class CurrencyProviderImpl implements CurrencyProvider {
@@ -14,6 +16,43 @@ public class CurrencyProviderImpl implements CurrencyProvider {
             String fromCurrency,
             String toCurrency
     ) {
+        if (fromCurrency.equalsIgnoreCase(toCurrency)) {
+            return amount;
+        }
+
+        return amount.multiply(resolveRate(fromCurrency, toCurrency));
+    }
+
+    @Override
+    public BigDecimal[] convertCurrencies(
+            BigDecimal[] amounts,
+            String[] fromCurrencies,
+            String toCurrency
+    ) {
+        if (amounts.length != fromCurrencies.length) {
+            throw new IllegalArgumentException("Amounts and currencies must have the same length.");
+        }
+
+        BigDecimal[] converted = new BigDecimal[amounts.length];
+        Map<String, BigDecimal> rates = new HashMap<>();
+
+        for (int i = 0; i < amounts.length; i++) {
+            String fromCurrency = fromCurrencies[i];
+
+            if (fromCurrency.equalsIgnoreCase(toCurrency)) {
+                converted[i] = amounts[i];
+                continue;
+            }
+
+            BigDecimal rate = rates.computeIfAbsent(fromCurrency, currency -> resolveRate(currency, toCurrency));
+
+            converted[i] = amounts[i].multiply(rate);
+        }
+
+        return converted;
+    }
+
+    private BigDecimal resolveRate(String fromCurrency, String toCurrency) {
         throw new UnsupportedOperationException("Not implemented yet.");
     }
 }
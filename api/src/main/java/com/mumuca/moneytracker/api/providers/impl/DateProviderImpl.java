@@ -1,34 +1,101 @@
 package com.mumuca.moneytracker.api.providers.impl;
 
 import com.mumuca.moneytracker.api.account.model.RecurrenceInterval;
+import com.mumuca.moneytracker.api.providers.DateAdjustmentRule;
 import com.mumuca.moneytracker.api.providers.DateProvider;
+import com.mumuca.moneytracker.api.providers.EpochDays;
+import com.mumuca.moneytracker.api.providers.HolidayCalendar;
+import com.mumuca.moneytracker.api.providers.HolidayCalendarProvider;
+import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.mumuca.moneytracker.api.providers.impl.OccurrenceSpliterator.firstIndexOnOrAfter;
+import static com.mumuca.moneytracker.api.providers.impl.OccurrenceSpliterator.occurrence;
 
 @Component
+@AllArgsConstructor
 public class DateProviderImpl implements DateProvider {
+
+    private final HolidayCalendarProvider holidayCalendarProvider;
+
     @Override
     public List<LocalDate> generateDates(
             LocalDate startDate,
             RecurrenceInterval frequency,
             int occurrences
     ) {
-        return IntStream
-                .range(0, occurrences)
-                .mapToObj(i -> switch (frequency) {
-                    case DAILY -> startDate.plusDays(i);
-                    case WEEKLY -> startDate.plusWeeks(i);
-                    case BIWEEKLY -> startDate.plusWeeks(i * 2L);
-                    case MONTHLY -> startDate.plusMonths(i);
-                    case BIMONTHLY -> startDate.plusMonths(i * 2L);
-                    case TRIMONTHLY -> startDate.plusMonths(i * 3L);
-                    case SIXMONTHLY -> startDate.plusMonths(i * 6L);
-                    case YEARLY -> startDate.plusYears(i);
-                })
-                .collect(Collectors.toList());
+        List<LocalDate> dates = new ArrayList<>(occurrences);
+
+        for (int i = 0; i < occurrences; i++) {
+            dates.add(occurrence(startDate, frequency, i));
+        }
+
+        return dates;
+    }
+
+    @Override
+    public List<LocalDate> generateDates(
+            LocalDate startDate,
+            RecurrenceInterval frequency,
+            int occurrences,
+            DateAdjustmentRule rule,
+            String calendarId
+    ) {
+        HolidayCalendar calendar = holidayCalendarProvider.getCalendar(calendarId);
+        int[] epochDays = EpochDays.generate(EpochDays.of(startDate), frequency, occurrences);
+
+        List<LocalDate> dates = new ArrayList<>(occurrences);
+
+        for (int epochDay : epochDays) {
+            dates.add(EpochDays.toLocalDate(rule.adjust(epochDay, calendar)));
+        }
+
+        return dates;
+    }
+
+    @Override
+    public Stream<LocalDate> streamDates(LocalDate startDate, RecurrenceInterval frequency) {
+        return StreamSupport.stream(
+                new OccurrenceSpliterator(startDate, frequency, 0, Long.MAX_VALUE, null),
+                false
+        );
+    }
+
+    @Override
+    public LocalDate nextOccurrenceOnOrAfter(
+            LocalDate startDate,
+            RecurrenceInterval frequency,
+            LocalDate date
+    ) {
+        return occurrence(startDate, frequency, firstIndexOnOrAfter(startDate, frequency, date));
+    }
+
+    @Override
+    public Stream<LocalDate> occurrencesBetween(
+            LocalDate startDate,
+            RecurrenceInterval frequency,
+            LocalDate from,
+            LocalDate to
+    ) {
+        if (to.isBefore(from)) {
+            return Stream.empty();
+        }
+
+        return StreamSupport.stream(
+                new OccurrenceSpliterator(
+                        startDate,
+                        frequency,
+                        firstIndexOnOrAfter(startDate, frequency, from),
+                        Long.MAX_VALUE,
+                        to
+                ),
+                false
+        );
     }
 }
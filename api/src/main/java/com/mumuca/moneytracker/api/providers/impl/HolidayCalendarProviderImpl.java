@@ -0,0 +1,87 @@
+package com.mumuca.moneytracker.api.providers.impl;
+
+import com.mumuca.moneytracker.api.providers.HolidayCalendar;
+import com.mumuca.moneytracker.api.providers.HolidayCalendarProvider;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads holiday calendars from text files (one ISO date per line, optionally followed by a
+ * description; {@code #} starts a comment). The calendar id is the file name without extension.
+ */
+@Component
+public class HolidayCalendarProviderImpl implements HolidayCalendarProvider {
+
+    @Value("${holidays.location:classpath*:holidays/*.txt}")
+    private String location;
+
+    private final Map<String, HolidayCalendar> calendars = new HashMap<>();
+
+    @PostConstruct
+    void loadCalendars() throws IOException {
+        calendars.put(HolidayCalendar.WEEKENDS_ONLY.getId(), HolidayCalendar.WEEKENDS_ONLY);
+
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location)) {
+            String filename = resource.getFilename();
+
+            if (filename == null) {
+                continue;
+            }
+
+            String calendarId = filename.contains(".") ? filename.substring(0, filename.lastIndexOf('.')) : filename;
+
+            calendars.put(calendarId, HolidayCalendar.compile(calendarId, readHolidays(resource)));
+        }
+    }
+
+    @Override
+    public HolidayCalendar getCalendar(String calendarId) {
+        HolidayCalendar calendar = calendars.get(calendarId);
+
+        if (calendar == null) {
+            throw new IllegalArgumentException("Unknown holiday calendar: " + calendarId);
+        }
+
+        return calendar;
+    }
+
+    private static List<LocalDate> readHolidays(Resource resource) {
+        List<LocalDate> holidays = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)
+        )) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                int commentStart = line.indexOf('#');
+                String content = (commentStart >= 0 ? line.substring(0, commentStart) : line).strip();
+
+                if (content.isEmpty()) {
+                    continue;
+                }
+
+                int separator = content.indexOf(' ');
+                holidays.add(LocalDate.parse(separator >= 0 ? content.substring(0, separator) : content));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read holiday calendar " + resource.getDescription(), e);
+        }
+
+        return holidays;
+    }
+}
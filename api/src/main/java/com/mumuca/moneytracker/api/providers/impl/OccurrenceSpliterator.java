@@ -0,0 +1,109 @@
+package com.mumuca.moneytracker.api.providers.impl;
+
+import com.mumuca.moneytracker.api.account.model.RecurrenceInterval;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Walks the occurrences of a recurrence by index, always stepping from the first occurrence so
+ * that month clamping matches {@link LocalDate#plusMonths(long)} (Jan 31 -> Feb 28 -> Mar 31).
+ */
+class OccurrenceSpliterator implements Spliterator<LocalDate> {
+
+    private final LocalDate startDate;
+    private final RecurrenceInterval frequency;
+    private final long endIndex;
+    private final LocalDate endDate;
+
+    private long index;
+
+    OccurrenceSpliterator(
+            LocalDate startDate,
+            RecurrenceInterval frequency,
+            long fromIndex,
+            long endIndex,
+            LocalDate endDate
+    ) {
+        this.startDate = startDate;
+        this.frequency = frequency;
+        this.index = fromIndex;
+        this.endIndex = endIndex;
+        this.endDate = endDate;
+    }
+
+    static LocalDate occurrence(LocalDate startDate, RecurrenceInterval frequency, long index) {
+        return startDate.plus(index * frequency.getStep(), frequency.getUnit());
+    }
+
+    /**
+     * Index of the first occurrence that is on or after {@code date}. The number of whole units
+     * between both dates gives a lower bound, so at most a couple of forward steps are needed.
+     */
+    static long firstIndexOnOrAfter(LocalDate startDate, RecurrenceInterval frequency, LocalDate date) {
+        if (!date.isAfter(startDate)) {
+            return 0;
+        }
+
+        long index = frequency.getUnit().between(startDate, date) / frequency.getStep();
+
+        while (occurrence(startDate, frequency, index).isBefore(date)) {
+            index++;
+        }
+
+        return index;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super LocalDate> action) {
+        if (index >= endIndex) {
+            return false;
+        }
+
+        LocalDate date = occurrence(startDate, frequency, index);
+
+        if (endDate != null && date.isAfter(endDate)) {
+            index = endIndex;
+            return false;
+        }
+
+        index++;
+        action.accept(date);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super LocalDate> action) {
+        while (tryAdvance(action)) {
+            // keep advancing
+        }
+    }
+
+    @Override
+    public Spliterator<LocalDate> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return endDate == null ? endIndex - index : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        int characteristics = ORDERED | DISTINCT | SORTED | NONNULL | IMMUTABLE;
+
+        if (endDate == null && endIndex != Long.MAX_VALUE) {
+            characteristics |= SIZED;
+        }
+
+        return characteristics;
+    }
+
+    @Override
+    public Comparator<? super LocalDate> getComparator() {
+        return null;
+    }
+}
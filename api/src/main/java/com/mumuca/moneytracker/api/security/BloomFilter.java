@@ -0,0 +1,69 @@
+package com.mumuca.moneytracker.api.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over SHA-256 hex digests (see {@link TokenHashes}). The digest is already
+ * uniformly distributed, so its first 128 bits feed the double hashing directly instead of being
+ * hashed again.
+ *
+ * <p>{@link #mightContain} never returns {@code false} for a value that was {@link #put}; a
+ * {@code true} only means "maybe" and must be confirmed elsewhere.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive and the false positive rate in (0, 1).");
+        }
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = Math.toIntExact(Math.max(1, (optimalBits + 63) / 64));
+
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String sha256Hex) {
+        long h1 = Long.parseUnsignedLong(sha256Hex, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(sha256Hex, 16, 32, 16);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (current, m) -> current | m);
+            }
+        }
+    }
+
+    public boolean mightContain(String sha256Hex) {
+        long h1 = Long.parseUnsignedLong(sha256Hex, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(sha256Hex, 16, 32, 16);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+}
@@ -0,0 +1,183 @@
+package com.mumuca.moneytracker.api.security;
+
+import com.mumuca.moneytracker.api.auth.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the delegate's {@code encode} and {@code matches} on a small dedicated pool, so a burst of
+ * sign-ins cannot take every core away from the rest of the API. Calls that find the queue full, or
+ * that stay queued longer than {@code maxWait}, fail fast with {@link PasswordHashingUnavailableException}
+ * and are dropped from the queue.
+ * <p>
+ * {@code maxWait} only covers the queueing: once a thread picks a call up, the caller waits for the hash
+ * however long it takes. A hash in progress cannot be interrupted, so giving up on it would keep the
+ * thread busy after the caller was told to retry.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejections;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            int threads,
+            int queueCapacity,
+            Duration maxWait,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.maxWait = maxWait;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = Timer.builder("password.hash")
+                .description("Time spent hashing passwords, excluding the queue wait")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash")
+                .description("Time spent hashing passwords, excluding the queue wait")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("password.hash.rejected")
+                .description("Password hashing calls rejected because the pool was saturated")
+                .register(meterRegistry);
+
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size())
+                .description("Password hashing calls waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing calls running")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        QueuedCall<T> call = new QueuedCall<>(task);
+        Future<T> future;
+
+        try {
+            future = executor.submit(call);
+        } catch (RejectedExecutionException ex) {
+            rejections.increment();
+            throw new PasswordHashingUnavailableException();
+        }
+
+        try {
+            if (!call.started.await(maxWait.toMillis(), TimeUnit.MILLISECONDS) && abandon(call, future)) {
+                rejections.increment();
+                throw new PasswordHashingUnavailableException();
+            }
+
+            return future.get();
+        } catch (InterruptedException ex) {
+            abandon(call, future);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private boolean abandon(QueuedCall<?> call, Future<?> future) {
+        if (!call.abandon()) {
+            return false;
+        }
+
+        future.cancel(false);
+        executor.purge();
+        return true;
+    }
+
+    /**
+     * A call that either gets picked up by a thread or gets abandoned by its caller, whichever comes first, so
+     * an abandoned call never starts hashing.
+     */
+    private static class QueuedCall<T> implements Callable<T> {
+        private static final int QUEUED = 0;
+        private static final int STARTED = 1;
+        private static final int ABANDONED = 2;
+
+        private final Callable<T> task;
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        QueuedCall(Callable<T> task) {
+            this.task = task;
+        }
+
+        @Override
+        public T call() throws Exception {
+            if (!state.compareAndSet(QUEUED, STARTED)) {
+                return null;
+            }
+
+            started.countDown();
+            return task.call();
+        }
+
+        boolean abandon() {
+            return state.compareAndSet(QUEUED, ABANDONED);
+        }
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.mumuca.moneytracker.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.mumuca.moneytracker.api.jfr.JwtDecodedEvent;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Remembers tokens that were already verified by {@code delegate}, keyed by the SHA-256 of the
+ * token, until their {@code exp}. A token is therefore signature-checked once per node instead of
+ * once per request. Tokens without {@code exp} are never cached.
+ * <p>
+ * Every call is recorded as a {@link JwtDecodedEvent} while a flight recording is running.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> verifiedTokens;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize) {
+        this.delegate = delegate;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpiresAtExpiry())
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        JwtDecodedEvent event = new JwtDecodedEvent();
+        event.begin();
+
+        String tokenHash = TokenHashes.sha256(token);
+
+        Jwt cached = verifiedTokens.getIfPresent(tokenHash);
+
+        if (cached != null) {
+            commit(event, true, true);
+            return cached;
+        }
+
+        Jwt jwt;
+
+        try {
+            jwt = delegate.decode(token);
+        } catch (JwtException exception) {
+            commit(event, false, false);
+            throw exception;
+        }
+
+        if (jwt.getExpiresAt() != null) {
+            verifiedTokens.put(tokenHash, jwt);
+        }
+
+        commit(event, false, true);
+        return jwt;
+    }
+
+    private static void commit(JwtDecodedEvent event, boolean cached, boolean success) {
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setCached(cached);
+            event.setSuccess(success);
+            event.commit();
+        }
+    }
+
+    private static class ExpiresAtExpiry implements Expiry<String, Jwt> {
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            long nanos = Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos();
+            return Math.max(nanos, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
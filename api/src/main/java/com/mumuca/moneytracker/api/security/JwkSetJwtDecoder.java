@@ -0,0 +1,91 @@
+package com.mumuca.moneytracker.api.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.MappedJwtClaimSetConverter;
+
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Verifies tokens against the key of {@link JwtKeys} named by their {@code kid}. The algorithm of
+ * the header must match the key, so a token cannot pick a weaker algorithm than the one the key was
+ * issued for.
+ */
+public class JwkSetJwtDecoder implements JwtDecoder {
+
+    private final JwtKeys jwtKeys;
+    private final Converter<Map<String, Object>, Map<String, Object>> claimSetConverter =
+            MappedJwtClaimSetConverter.withDefaults(Collections.emptyMap());
+    private final OAuth2TokenValidator<Jwt> jwtValidator = JwtValidators.createDefault();
+
+    public JwkSetJwtDecoder(JwtKeys jwtKeys) {
+        this.jwtKeys = jwtKeys;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        SignedJWT signedJwt = parse(token);
+        JWSHeader header = signedJwt.getHeader();
+
+        JwtKeys.KeyVerifier keyVerifier = jwtKeys.getVerifier(header.getKeyID());
+
+        if (keyVerifier == null) {
+            throw new BadJwtException("Unknown signing key: " + header.getKeyID());
+        }
+
+        if (!keyVerifier.algorithm().equals(header.getAlgorithm())) {
+            throw new BadJwtException("Unexpected signing algorithm: " + header.getAlgorithm());
+        }
+
+        try {
+            if (!signedJwt.verify(keyVerifier.verifier())) {
+                throw new BadJwtException("Invalid signature");
+            }
+        } catch (JOSEException ex) {
+            throw new BadJwtException("Failed to verify the JWT: " + ex.getMessage(), ex);
+        }
+
+        Jwt jwt = createJwt(token, signedJwt);
+
+        OAuth2TokenValidatorResult result = jwtValidator.validate(jwt);
+
+        if (result.hasErrors()) {
+            throw new JwtValidationException(result.getErrors().iterator().next().getDescription(), result.getErrors());
+        }
+
+        return jwt;
+    }
+
+    private static SignedJWT parse(String token) {
+        try {
+            return SignedJWT.parse(token);
+        } catch (ParseException ex) {
+            throw new BadJwtException("Malformed token: " + ex.getMessage(), ex);
+        }
+    }
+
+    private Jwt createJwt(String token, SignedJWT signedJwt) {
+        try {
+            Map<String, Object> claims = claimSetConverter.convert(signedJwt.getJWTClaimsSet().getClaims());
+
+            return Jwt.withTokenValue(token)
+                    .headers(headers -> headers.putAll(signedJwt.getHeader().toJSONObject()))
+                    .claims(jwtClaims -> jwtClaims.putAll(claims))
+                    .build();
+        } catch (ParseException | IllegalArgumentException ex) {
+            throw new BadJwtException("Malformed payload: " + ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.mumuca.moneytracker.api.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Signs tokens with the active key of {@link JwtKeys}, stamping its {@code kid} in the header.
+ *
+ * <p>Any {@code JwsHeader} passed in the parameters is ignored: the key decides the algorithm.
+ */
+public class JwkSetJwtEncoder implements JwtEncoder {
+
+    private final JwtKeys jwtKeys;
+    private final JWSHeader header;
+
+    public JwkSetJwtEncoder(JwtKeys jwtKeys) {
+        this.jwtKeys = jwtKeys;
+        this.header = new JWSHeader.Builder(jwtKeys.getActiveAlgorithm())
+                .type(JOSEObjectType.JWT)
+                .keyID(jwtKeys.getActiveKeyId())
+                .build();
+    }
+
+    @Override
+    public Jwt encode(JwtEncoderParameters parameters) throws JwtEncodingException {
+        JwtClaimsSet claims = parameters.getClaims();
+        SignedJWT signedJwt = new SignedJWT(header, toNimbusClaims(claims));
+
+        try {
+            signedJwt.sign(jwtKeys.getSigner());
+        } catch (JOSEException ex) {
+            throw new JwtEncodingException("Failed to sign the JWT: " + ex.getMessage(), ex);
+        }
+
+        return new Jwt(
+                signedJwt.serialize(),
+                claims.getIssuedAt(),
+                claims.getExpiresAt(),
+                header.toJSONObject(),
+                claims.getClaims()
+        );
+    }
+
+    private static JWTClaimsSet toNimbusClaims(JwtClaimsSet claims) {
+        JWTClaimsSet.Builder builder = new JWTClaimsSet.Builder();
+
+        for (Map.Entry<String, Object> claim : claims.getClaims().entrySet()) {
+            Object value = claim.getValue();
+            builder.claim(claim.getKey(), value instanceof Instant instant ? Date.from(instant) : value);
+        }
+
+        return builder.build();
+    }
+}
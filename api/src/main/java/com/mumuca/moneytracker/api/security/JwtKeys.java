@@ -0,0 +1,150 @@
+package com.mumuca.moneytracker.api.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Signer;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The keys used to sign and verify access tokens.
+ *
+ * <p>Every key of the set is accepted for verification, looked up by the {@code kid} of the token
+ * header, while new tokens are signed only with the active key. Rotating a key means publishing the
+ * new one in the set, switching the active {@code kid} and dropping the old key once the tokens it
+ * signed have expired.
+ *
+ * <p>The signing algorithm follows the key type: RS256 for RSA, ES256 for P-256 and EdDSA for
+ * Ed25519. Signers and verifiers are built once here, so no key material is parsed per request.
+ */
+public final class JwtKeys {
+
+    private final JWK activeKey;
+    private final JWSAlgorithm activeAlgorithm;
+    private final JWSSigner signer;
+    private final Map<String, KeyVerifier> verifiers;
+
+    private JwtKeys(JWKSet jwkSet, JWK activeKey) {
+        this.activeKey = activeKey;
+        this.activeAlgorithm = algorithmOf(activeKey);
+        this.signer = signerOf(activeKey);
+        this.verifiers = new HashMap<>();
+
+        for (JWK jwk : jwkSet.getKeys()) {
+            verifiers.put(jwk.getKeyID(), new KeyVerifier(algorithmOf(jwk), verifierOf(jwk)));
+        }
+    }
+
+    public static JwtKeys of(JWKSet jwkSet, String activeKid) {
+        JWK activeKey = jwkSet.getKeyByKeyId(activeKid);
+
+        if (activeKey == null) {
+            throw new IllegalArgumentException("Active JWT key " + activeKid + " is not in the JWK set.");
+        }
+
+        if (!activeKey.isPrivate()) {
+            throw new IllegalArgumentException("Active JWT key " + activeKid + " has no private part.");
+        }
+
+        for (JWK jwk : jwkSet.getKeys()) {
+            if (jwk.getKeyID() == null) {
+                throw new IllegalArgumentException("Every key of the JWK set must have a kid.");
+            }
+        }
+
+        return new JwtKeys(jwkSet, activeKey);
+    }
+
+    /**
+     * A single RS256 key without {@code kid}, which is how tokens were signed before key sets.
+     */
+    public static JwtKeys rsa(RSAPublicKey publicKey, RSAPrivateKey privateKey) {
+        JWK jwk = new RSAKey.Builder(publicKey).privateKey(privateKey).build();
+        return new JwtKeys(new JWKSet(jwk), jwk);
+    }
+
+    public String getActiveKeyId() {
+        return activeKey.getKeyID();
+    }
+
+    public JWSAlgorithm getActiveAlgorithm() {
+        return activeAlgorithm;
+    }
+
+    JWSSigner getSigner() {
+        return signer;
+    }
+
+    /**
+     * Returns the verifier for {@code kid}, or {@code null} when the key is unknown. A token without
+     * {@code kid} is only accepted while the set holds a single key.
+     */
+    KeyVerifier getVerifier(String kid) {
+        if (kid == null) {
+            return verifiers.size() == 1 ? verifiers.values().iterator().next() : null;
+        }
+
+        return verifiers.get(kid);
+    }
+
+    public static JWSAlgorithm algorithmOf(JWK jwk) {
+        if (jwk instanceof RSAKey) {
+            return JWSAlgorithm.RS256;
+        }
+
+        if (jwk instanceof ECKey ecKey && Curve.P_256.equals(ecKey.getCurve())) {
+            return JWSAlgorithm.ES256;
+        }
+
+        if (jwk instanceof OctetKeyPair okp && Curve.Ed25519.equals(okp.getCurve())) {
+            return JWSAlgorithm.EdDSA;
+        }
+
+        throw new IllegalArgumentException("Unsupported JWT key " + jwk.getKeyID() + ": use RSA, P-256 or Ed25519.");
+    }
+
+    private static JWSSigner signerOf(JWK jwk) {
+        try {
+            return switch (jwk) {
+                case RSAKey rsaKey -> new RSASSASigner(rsaKey);
+                case ECKey ecKey -> new ECDSASigner(ecKey);
+                case OctetKeyPair okp -> new Ed25519Signer(okp);
+                default -> throw new IllegalArgumentException("Unsupported JWT key " + jwk.getKeyID() + ".");
+            };
+        } catch (JOSEException ex) {
+            throw new IllegalArgumentException("Invalid JWT key " + jwk.getKeyID() + ".", ex);
+        }
+    }
+
+    private static JWSVerifier verifierOf(JWK jwk) {
+        try {
+            return switch (jwk) {
+                case RSAKey rsaKey -> new RSASSAVerifier(rsaKey.toPublicJWK());
+                case ECKey ecKey -> new ECDSAVerifier(ecKey.toPublicJWK());
+                case OctetKeyPair okp -> new Ed25519Verifier(okp.toPublicJWK());
+                default -> throw new IllegalArgumentException("Unsupported JWT key " + jwk.getKeyID() + ".");
+            };
+        } catch (JOSEException ex) {
+            throw new IllegalArgumentException("Invalid JWT key " + jwk.getKeyID() + ".", ex);
+        }
+    }
+
+    record KeyVerifier(JWSAlgorithm algorithm, JWSVerifier verifier) {
+    }
+}
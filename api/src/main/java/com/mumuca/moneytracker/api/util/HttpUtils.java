@@ -1,12 +1,21 @@
 package com.mumuca.moneytracker.api.util;
 
 import com.mumuca.moneytracker.api.exception.dto.APIErrorResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 public class HttpUtils {
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     public static <T> ResponseEntity<APIErrorResponse<T>> buildErrorResponse(
             HttpStatus status,
             String title,
@@ -21,4 +30,60 @@ public class HttpUtils {
 
         return ResponseEntity.status(status).body(errorResponse);
     }
+
+    /**
+     * Answers 304 when the request's {@code If-None-Match} holds the ETag derived from {@code version}, and only
+     * calls {@code body} otherwise. Without a version the body is always sent, without an ETag.
+     *
+     * @param variant what the response depends on besides the version and the request URL, such as a
+     *                default resolved from the current date
+     */
+    public static <T> ResponseEntity<T> buildConditionalResponse(
+            WebRequest webRequest,
+            Optional<String> version,
+            Supplier<T> body,
+            Object... variant
+    ) {
+        if (version.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.OK).body(body.get());
+        }
+
+        String tag = variant.length == 0
+                ? version.get()
+                : version.get() + "-" + Integer.toHexString(Arrays.hashCode(variant));
+
+        // Weak, since the same version is sent gzipped or not, and Tomcat never compresses a response that
+        // carries a strong ETag.
+        String eTag = "W/\"" + tag + "\"";
+
+        if (isNotModified(webRequest, eTag)) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .body(body.get());
+    }
+
+    // WebRequest.checkNotModified would also put the ETag on the response before the body is loaded, so an
+    // error raised while loading it, a 404 say, would carry the ETag too.
+    private static boolean isNotModified(WebRequest webRequest, String eTag) {
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        ETag current = ETag.create(eTag);
+
+        return ETag.parse(ifNoneMatch)
+                .stream()
+                .anyMatch(candidate -> candidate.compare(current, false));
+    }
 }
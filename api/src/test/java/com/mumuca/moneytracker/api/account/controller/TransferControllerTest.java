@@ -0,0 +1,77 @@
+package com.mumuca.moneytracker.api.account.controller;
+
+import com.mumuca.moneytracker.api.account.model.Status;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static com.mumuca.moneytracker.api.util.HttpUtils.buildConditionalResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransferController Tests")
+class TransferControllerTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2025, 1, 31);
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 10);
+
+    private static ResponseEntity<String> listTransfers(String ifNoneMatch, Status status, LocalDate today) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/transfers");
+
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+
+        return buildConditionalResponse(
+                new ServletWebRequest(request, new MockHttpServletResponse()),
+                Optional.of("1a"),
+                () -> "transfers",
+                TransferController.listTransfersVariant(START_DATE, END_DATE, status, today)
+        );
+    }
+
+    @Nested
+    @DisplayName("listTransfers ETag tests")
+    class ListTransfersETagTests {
+        @ParameterizedTest
+        @EnumSource(value = Status.class, names = {"PENDING", "OVERDUE"})
+        @DisplayName("should send the list again the next day when the status filter depends on today")
+        void shouldSendTheListAgainTheNextDayWhenTheStatusFilterDependsOnToday(Status status) {
+            // Arrange
+            String eTagToday = listTransfers(null, status, TODAY).getHeaders().getETag();
+
+            // Act
+            ResponseEntity<String> sameDay = listTransfers(eTagToday, status, TODAY);
+            ResponseEntity<String> nextDay = listTransfers(eTagToday, status, TODAY.plusDays(1));
+
+            // Assert
+            assertThat(sameDay.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(nextDay.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(nextDay.getHeaders().getETag()).isNotEqualTo(eTagToday);
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = Status.class, names = {"ALL", "PAID"})
+        @DisplayName("should keep answering not modified the next day when the status filter does not depend on today")
+        void shouldKeepAnsweringNotModifiedTheNextDayWhenTheStatusFilterDoesNotDependOnToday(Status status) {
+            // Arrange
+            String eTagToday = listTransfers(null, status, TODAY).getHeaders().getETag();
+
+            // Act
+            ResponseEntity<String> nextDay = listTransfers(eTagToday, status, TODAY.plusDays(1));
+
+            // Assert
+            assertThat(nextDay.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.mumuca.moneytracker.api.account.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mumuca.moneytracker.api.account.dto.AccountDTO;
+import com.mumuca.moneytracker.api.account.dto.RecurrenceDTO;
+import com.mumuca.moneytracker.api.account.dto.TransferDTO;
+import com.mumuca.moneytracker.api.account.model.AccountType;
+import com.mumuca.moneytracker.api.account.model.RecurrenceInterval;
+import com.mumuca.moneytracker.api.account.model.RecurrenceType;
+import com.mumuca.moneytracker.api.account.model.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransferJsonModule Tests")
+class TransferJsonModuleTest {
+
+    private static ObjectMapper mapper(boolean datesAsTimestamps, boolean withModule) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+
+        if (datesAsTimestamps) {
+            builder.featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        } else {
+            builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        }
+
+        if (withModule) {
+            builder.modulesToInstall(new TransferJsonModule());
+        }
+
+        return builder.build();
+    }
+
+    private static Page<RecurrenceDTO<TransferDTO>> page() {
+        AccountDTO checking = new AccountDTO(
+                "a1", "Checking \"main\"", "#1E88E5", "wallet", AccountType.CHECKING_ACCOUNT,
+                new BigDecimal("15230.45"), "BRL", false
+        );
+        AccountDTO savings = new AccountDTO(
+                "a2", "Savings", "#43A047", "piggy-bank", AccountType.INVESTMENTS,
+                new BigDecimal("1E+3"), "BRL", true
+        );
+
+        TransferDTO paid = new TransferDTO(
+                "t1", "Savings", "Monthly transfer", checking, savings, new BigDecimal("350.00"), "BRL",
+                LocalDate.of(2025, 1, 10), true, LocalDate.of(2025, 1, 11), 1, 12, "r1"
+        );
+        TransferDTO pending = new TransferDTO(
+                "t2", "Savings", null, checking, null, new BigDecimal("350.00"), "BRL",
+                LocalDate.of(2025, 2, 10), false, null, null, null, "r1"
+        );
+
+        List<RecurrenceDTO<TransferDTO>> content = List.of(
+                new RecurrenceDTO<>("r1", RecurrenceInterval.MONTHLY, LocalDate.of(2025, 1, 10),
+                        TransactionType.TRANSFER, RecurrenceType.REPEATED, List.of(paid)),
+                new RecurrenceDTO<>("r1", null, null, null, null, List.of(pending))
+        );
+
+        return new PageImpl<>(content, PageRequest.of(0, 2), 24);
+    }
+
+    @Nested
+    @DisplayName("serialization tests")
+    class SerializationTests {
+        @Test
+        @DisplayName("should write a transfer page exactly like the bean serializers")
+        void shouldWriteATransferPageExactlyLikeTheBeanSerializers() throws Exception {
+            // Arrange
+            Page<RecurrenceDTO<TransferDTO>> page = page();
+
+            // Act
+            String expected = mapper(false, false).writeValueAsString(page);
+            String actual = mapper(false, true).writeValueAsString(page);
+
+            // Assert
+            assertThat(actual).isEqualTo(expected);
+            assertThat(actual).contains("\"billingDate\":\"2025-01-10\"");
+        }
+
+        @Test
+        @DisplayName("should write dates as arrays when dates are written as timestamps")
+        void shouldWriteDatesAsArraysWhenDatesAreWrittenAsTimestamps() throws Exception {
+            // Arrange
+            Page<RecurrenceDTO<TransferDTO>> page = page();
+
+            // Act
+            String expected = mapper(true, false).writeValueAsString(page);
+            String actual = mapper(true, true).writeValueAsString(page);
+
+            // Assert
+            assertThat(actual).isEqualTo(expected);
+            assertThat(actual).contains("\"billingDate\":[2025,1,10]");
+        }
+
+        @Test
+        @DisplayName("should indent the accounts it repeats like the rest of a pretty printed page")
+        void shouldIndentTheAccountsItRepeatsLikeTheRestOfAPrettyPrintedPage() throws Exception {
+            // Arrange
+            Page<RecurrenceDTO<TransferDTO>> page = page();
+
+            // Act
+            String expected = mapper(false, false).writerWithDefaultPrettyPrinter().writeValueAsString(page);
+            String actual = mapper(false, true).writerWithDefaultPrettyPrinter().writeValueAsString(page);
+
+            // Assert
+            assertThat(actual).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("should write recurrences of other DTOs with the bean serializers")
+        void shouldWriteRecurrencesOfOtherDTOsWithTheBeanSerializers() throws Exception {
+            // Arrange
+            RecurrenceDTO<AccountDTO> recurrence = new RecurrenceDTO<>(
+                    "r1", RecurrenceInterval.WEEKLY, LocalDate.of(2025, 1, 10), TransactionType.TRANSFER,
+                    RecurrenceType.UNIQUE, List.of(page().getContent().getFirst().recurrences().getFirst().toAccount())
+            );
+
+            // Act
+            String expected = mapper(false, false).writeValueAsString(recurrence);
+            String actual = mapper(false, true).writeValueAsString(recurrence);
+
+            // Assert
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+}
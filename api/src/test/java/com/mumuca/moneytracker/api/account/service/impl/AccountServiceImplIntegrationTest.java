@@ -11,6 +11,7 @@ import com.mumuca.moneytracker.api.auth.repository.UserRepository;
 import com.mumuca.moneytracker.api.exception.ResourceAlreadyActiveException;
 import com.mumuca.moneytracker.api.exception.ResourceAlreadyArchivedException;
 import com.mumuca.moneytracker.api.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,13 +20,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.mumuca.moneytracker.api.testutil.EntityCleanupUtil.deleteUsers;
 import static com.mumuca.moneytracker.api.testutil.EntityGeneratorUtil.createAccount;
 import static com.mumuca.moneytracker.api.testutil.EntityGeneratorUtil.createUser;
 import static java.util.UUID.randomUUID;
@@ -48,6 +59,19 @@ class AccountServiceImplIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<String> committedUserIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        deleteUsers(jdbcTemplate, committedUserIds);
+    }
+
     @Nested
     @DisplayName("createAccount tests")
     class CreateAccountTests {
@@ -422,4 +446,104 @@ class AccountServiceImplIntegrationTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("account list cache tests")
+    class AccountListCacheTests {
+        @Test
+        @DisplayName("should serve the account lists from the cache until an account of the user changes")
+        void shouldServeTheAccountListsFromTheCacheUntilAnAccountOfTheUserChanges() {
+            // Arrange
+            User user = userRepository.save(createUser());
+            committedUserIds.add(user.getId());
+
+            Account account = createAccount();
+            account.setUser(user);
+            accountRepository.save(account);
+
+            List<AccountDTO> loaded = sut.listActiveAccounts(user.getId());
+
+            // Changes made behind JPA's back do not evict the cache.
+            jdbcTemplate.update("update accounts set amount = 999 where id = ?", account.getId());
+
+            // Act
+            List<AccountDTO> cached = sut.listActiveAccounts(user.getId());
+
+            sut.archiveAccount(account.getId(), user.getId());
+
+            List<AccountDTO> activeAfterArchive = sut.listActiveAccounts(user.getId());
+            List<AccountDTO> archivedAfterArchive = sut.listArchivedAccounts(user.getId());
+
+            // Assert
+            assertThat(cached).isSameAs(loaded);
+            assertThat(activeAfterArchive).isEmpty();
+            assertThat(archivedAfterArchive)
+                    .singleElement()
+                    .satisfies(archived -> assertThat(archived.balance()).isEqualByComparingTo("999"));
+        }
+
+        @Test
+        @DisplayName("should not begin a transaction when the account list is cached")
+        void shouldNotBeginATransactionWhenTheAccountListIsCached() {
+            // Arrange
+            User user = userRepository.save(createUser());
+            committedUserIds.add(user.getId());
+
+            Account account = createAccount();
+            account.setUser(user);
+            accountRepository.save(account);
+
+            AtomicInteger begun = new AtomicInteger();
+            TransactionExecutionListener listener = new TransactionExecutionListener() {
+                @Override
+                public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+                    begun.incrementAndGet();
+                }
+            };
+
+            AbstractPlatformTransactionManager platformTransactionManager = (AbstractPlatformTransactionManager) transactionManager;
+            Collection<TransactionExecutionListener> listeners = new ArrayList<>(platformTransactionManager.getTransactionExecutionListeners());
+            platformTransactionManager.addListener(listener);
+
+            try {
+                // Act
+                List<AccountDTO> loaded = sut.listActiveAccounts(user.getId());
+                int begunByLoad = begun.get();
+
+                List<AccountDTO> cached = sut.listActiveAccounts(user.getId());
+
+                // Assert
+                assertThat(cached).isSameAs(loaded);
+                assertThat(begunByLoad).isEqualTo(1);
+                assertThat(begun).hasValue(1);
+            } finally {
+                platformTransactionManager.setTransactionExecutionListeners(listeners);
+            }
+        }
+
+        @Test
+        @DisplayName("should not keep the accounts of a transaction that rolled back")
+        void shouldNotKeepTheAccountsOfATransactionThatRolledBack() {
+            // Arrange
+            User user = userRepository.save(createUser());
+            committedUserIds.add(user.getId());
+
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+            // Act
+            transactionTemplate.executeWithoutResult(status -> {
+                Account account = createAccount();
+                account.setUser(user);
+                accountRepository.save(account);
+
+                assertThat(sut.listActiveAccounts(user.getId())).hasSize(1);
+
+                status.setRollbackOnly();
+            });
+
+            List<AccountDTO> afterRollback = sut.listActiveAccounts(user.getId());
+
+            // Assert
+            assertThat(afterRollback).isEmpty();
+        }
+    }
+}
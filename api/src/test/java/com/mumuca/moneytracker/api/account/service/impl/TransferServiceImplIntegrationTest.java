@@ -9,6 +9,7 @@ import com.mumuca.moneytracker.api.account.model.*;
 import com.mumuca.moneytracker.api.account.repository.AccountRepository;
 import com.mumuca.moneytracker.api.account.repository.RecurrenceRepository;
 import com.mumuca.moneytracker.api.account.repository.TransferRepository;
+import com.mumuca.moneytracker.api.account.service.AccountService;
 import com.mumuca.moneytracker.api.auth.model.User;
 import com.mumuca.moneytracker.api.auth.repository.UserRepository;
 import com.mumuca.moneytracker.api.exception.ResourceIsArchivedException;
@@ -23,6 +24,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.Repeat;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -34,6 +36,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 
+import static com.mumuca.moneytracker.api.testutil.EntityCleanupUtil.deleteUsers;
 import static com.mumuca.moneytracker.api.testutil.EntityGeneratorUtil.*;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.*;
@@ -59,6 +62,19 @@ class TransferServiceImplIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> committedUserIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        deleteUsers(jdbcTemplate, committedUserIds);
+    }
+
     @Nested
     @DisplayName("registerUniqueTransfer tests")
     class RegisterUniqueTransferTests {
@@ -1442,6 +1458,61 @@ class TransferServiceImplIntegrationTest {
             assertThat(destinationAccountInDatabase.getBalance().getAmount()).isEqualTo(BigDecimal.valueOf(1000));
         }
 
+        @Test
+        @DisplayName("should show the new balances in the cached account list once the payment commits")
+        void shouldShowTheNewBalancesInTheCachedAccountListOnceThePaymentCommits() {
+            // Arrange
+            User user = userRepository.save(createUser());
+            committedUserIds.add(user.getId());
+
+            Account sourceAccount = createAccount();
+            sourceAccount.setBalance(new Money(BigDecimal.valueOf(1000), "BRL"));
+            sourceAccount.setUser(user);
+
+            Account destinationAccount = createAccount();
+            destinationAccount.setBalance(new Money(BigDecimal.valueOf(0), "BRL"));
+            destinationAccount.setUser(user);
+
+            accountRepository.saveAll(List.of(sourceAccount, destinationAccount));
+
+            var today = LocalDate.now();
+
+            Recurrence recurrence = recurrenceRepository.save(Recurrence.builder()
+                    .firstOccurrence(today)
+                    .interval(RecurrenceInterval.MONTHLY)
+                    .transactionType(TransactionType.TRANSFER)
+                    .recurrenceType(RecurrenceType.UNIQUE)
+                    .transfers(new ArrayList<>())
+                    .user(user)
+                    .build());
+
+            Transfer transfer = transferRepository.save(Transfer.builder()
+                    .title("Payable Transfer")
+                    .description("Transfer to be paid")
+                    .sourceAccount(sourceAccount)
+                    .destinationAccount(destinationAccount)
+                    .value(new Money(BigDecimal.valueOf(400), "BRL"))
+                    .billingDate(today)
+                    .paid(null)
+                    .recurrence(recurrence)
+                    .build());
+
+            accountService.listActiveAccounts(user.getId());
+
+            // Act
+            sut.payTransfer(transfer.getId(), new PayTransferDTO(null, today), user.getId());
+
+            List<AccountDTO> accounts = accountService.listActiveAccounts(user.getId());
+
+            // Assert
+            assertThat(accounts)
+                    .extracting(AccountDTO::id, account -> account.balance().intValue())
+                    .containsExactlyInAnyOrder(
+                            tuple(sourceAccount.getId(), 600),
+                            tuple(destinationAccount.getId(), 400)
+                    );
+        }
+
         @Test
         @Transactional
         @DisplayName("should throw ResourceNotFoundException if the transfer does not exist")
@@ -10,7 +10,9 @@ import com.mumuca.moneytracker.api.auth.model.Role;
 import com.mumuca.moneytracker.api.auth.model.User;
 import com.mumuca.moneytracker.api.auth.repository.RoleRepository;
 import com.mumuca.moneytracker.api.auth.repository.UserRepository;
-import org.junit.jupiter.api.Disabled;
+import com.mumuca.moneytracker.api.auth.service.TokenRevocationService;
+import com.mumuca.moneytracker.api.etag.UserVersions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
@@ -26,8 +31,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 
+import static com.mumuca.moneytracker.api.testutil.EntityCleanupUtil.deleteUsers;
+import static com.mumuca.moneytracker.api.testutil.EntityGeneratorUtil.createUser;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -52,6 +64,22 @@ class AuthServiceImplIntegrationTest {
     @Autowired
     private JwtDecoder jwtDecoder;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private UserVersions userVersions;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> committedUserIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        deleteUsers(jdbcTemplate, committedUserIds);
+    }
+
     @Nested
     @DisplayName("signUp tests")
     class SignUpTests {
@@ -108,6 +136,10 @@ class AuthServiceImplIntegrationTest {
             // Arrange
             String email = "samuel@email.com";
 
+            Role role = new Role();
+            role.setAuthority("USER");
+            roleRepository.save(role);
+
             User user = User.builder()
                     .firstName("Samuel")
                     .lastName("Laurindo")
@@ -134,6 +166,57 @@ class AuthServiceImplIntegrationTest {
                     .isInstanceOf(UserAlreadyExistsException.class)
                     .hasMessageContaining("User already registered with email: " + email);
         }
+
+        @Test
+        @Transactional
+        @DisplayName("should throw UserAlreadyExistsException if email is registered with another case")
+        void shouldThrowUserAlreadyExistsExceptionIfEmailIsRegisteredWithAnotherCase() {
+            // Arrange
+            Role role = new Role();
+            role.setAuthority("USER");
+            roleRepository.save(role);
+
+            User user = User.builder()
+                    .firstName("Samuel")
+                    .lastName("Laurindo")
+                    .password(passwordEncoder.encode("12345678"))
+                    .email("samuel@email.com")
+                    .birthDate(LocalDate.of(2004, 1, 1))
+                    .gender(Gender.MALE)
+                    .build();
+
+            userRepository.save(user);
+
+            SignUpDTO signUpDTO = new SignUpDTO(
+                    "firstName",
+                    "lastName",
+                    Gender.MALE,
+                    LocalDate.now().minusDays(1),
+                    " Samuel@Email.COM ",
+                    "password"
+            );
+
+            // Act & Assert
+            assertThatThrownBy(() -> sut.signUp(signUpDTO))
+                    .isInstanceOf(UserAlreadyExistsException.class);
+        }
+
+        @Test
+        @Transactional
+        @DisplayName("should not store two emails that differ only by case")
+        void shouldNotStoreTwoEmailsThatDifferOnlyByCase() {
+            // Arrange
+            User user = createUser();
+            user.setEmail("Samuel@Email.com");
+            userRepository.saveAndFlush(user);
+
+            User otherUser = createUser();
+            otherUser.setEmail("samuel@email.com");
+
+            // Act & Assert
+            assertThatThrownBy(() -> userRepository.saveAndFlush(otherUser))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
     }
 
     @Nested
@@ -179,6 +262,83 @@ class AuthServiceImplIntegrationTest {
             assertThat(tokenDecoded.getClaimAsStringList("roles")).hasSize(1).contains("USER");
         }
 
+        @Test
+        @Transactional
+        @DisplayName("should sign in a user whose email was stored with upper-case letters")
+        void shouldSignInAUserWhoseEmailWasStoredWithUpperCaseLetters() {
+            // Arrange
+            String password = "12345678";
+
+            User user = createUser();
+            user.setEmail("Samuel.Laurindo@Email.com");
+            user.setPassword(passwordEncoder.encode(password));
+            userRepository.save(user);
+
+            // Act
+            SignedIn response = sut.signIn(new SignInDTO("samuel.laurindo@email.com", password));
+
+            // Assert
+            assertThat(jwtDecoder.decode(response.accessToken()).getSubject()).isEqualTo(user.getId());
+        }
+
+        @Test
+        @Transactional
+        @DisplayName("should rehash an outdated password hash on sign in")
+        void shouldRehashAnOutdatedPasswordHashOnSignIn() {
+            // Arrange
+            String email = "samuel@email.com";
+            String password = "12345678";
+            String outdatedHash = new BCryptPasswordEncoder(4).encode(password);
+
+            Role userRole = new Role();
+            userRole.setAuthority("USER");
+            roleRepository.save(userRole);
+
+            User user = User.builder()
+                    .firstName("Samuel")
+                    .lastName("Laurindo")
+                    .email(email)
+                    .password(outdatedHash)
+                    .roles(Set.of(userRole))
+                    .build();
+
+            userRepository.save(user);
+
+            // Act
+            sut.signIn(new SignInDTO(email, password));
+
+            // Assert
+            String storedHash = userRepository.findById(user.getId()).orElseThrow().getPassword();
+
+            assertThat(storedHash).startsWith("{bcrypt}").isNotEqualTo(outdatedHash);
+            assertThat(passwordEncoder.matches(password, storedHash)).isTrue();
+            assertThat(passwordEncoder.upgradeEncoding(storedHash)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should invalidate the user's version when rehashing on sign in")
+        void shouldInvalidateTheUsersVersionWhenRehashingOnSignIn() {
+            // Arrange
+            String password = "12345678";
+
+            User user = createUser();
+            user.setEmail(UUID.randomUUID() + "@email.com");
+            user.setPassword(new BCryptPasswordEncoder(4).encode(password));
+            userRepository.save(user);
+            committedUserIds.add(user.getId());
+
+            Optional<String> versionBefore = userVersions.current(user.getId());
+            LocalDateTime modifiedBefore = userRepository.findById(user.getId()).orElseThrow().getLastModifiedDate();
+
+            // Act
+            sut.signIn(new SignInDTO(user.getEmail(), password));
+
+            // Assert
+            assertThat(userVersions.current(user.getId())).isNotEqualTo(versionBefore);
+            assertThat(userRepository.findById(user.getId()).orElseThrow().getLastModifiedDate())
+                    .isAfter(modifiedBefore);
+        }
+
         @Test
         @Transactional
         @DisplayName("should throw CredentialsMismatchException if email does not exist")
@@ -228,7 +388,7 @@ class AuthServiceImplIntegrationTest {
     @DisplayName("signOut tests")
     class SignOutTests {
         @Test
-        @Disabled("jwtblacklist not implemented yet.")
+        @Transactional
         @DisplayName("should add token to blacklist on sign out")
         void shouldAddTokenToBlacklistOnSignOut() {
             // Arrange
@@ -239,7 +399,8 @@ class AuthServiceImplIntegrationTest {
             sut.signOut(token, expiresAt);
 
             // Assert
-            //assertThat(jwtBlacklist.isTokenBlacklisted(token)).isTrue();
+            assertThat(tokenRevocationService.isRevoked(token)).isTrue();
+            assertThat(tokenRevocationService.isRevoked("another-valid-token")).isFalse();
         }
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.mumuca.moneytracker.api.auth.service.impl;
 import com.mumuca.moneytracker.api.auth.dto.UserDTO;
 import com.mumuca.moneytracker.api.auth.model.User;
 import com.mumuca.moneytracker.api.auth.repository.UserRepository;
+import com.mumuca.moneytracker.api.config.CacheConfig;
 import com.mumuca.moneytracker.api.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +34,9 @@ class UserServiceImplIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @Nested
     @DisplayName("getUser tests")
     class GetUserTests {
@@ -66,4 +71,35 @@ class UserServiceImplIntegrationTest {
                     .hasMessageContaining("User not found");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("getUser cache tests")
+    class GetUserCacheTests {
+        @Test
+        @DisplayName("should serve the profile from the cache until the user changes")
+        void shouldServeTheProfileFromTheCacheUntilTheUserChanges() {
+            // Arrange
+            User user = userRepository.save(createUser());
+
+            try {
+                sut.getUser(user.getId());
+
+                // Act
+                UserDTO cached = cacheManager.getCache(CacheConfig.USERS_CACHE).get(user.getId(), UserDTO.class);
+
+                user.setFirstName("Changed");
+                userRepository.save(user);
+
+                UserDTO evicted = cacheManager.getCache(CacheConfig.USERS_CACHE).get(user.getId(), UserDTO.class);
+                UserDTO result = sut.getUser(user.getId());
+
+                // Assert
+                assertThat(cached).isNotNull();
+                assertThat(evicted).isNull();
+                assertThat(result.firstName()).isEqualTo("Changed");
+            } finally {
+                userRepository.deleteById(user.getId());
+            }
+        }
+    }
+}
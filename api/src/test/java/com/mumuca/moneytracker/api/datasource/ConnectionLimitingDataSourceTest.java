@@ -0,0 +1,160 @@
+package com.mumuca.moneytracker.api.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConnectionLimitingDataSource Tests")
+class ConnectionLimitingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicInteger closed = new AtomicInteger();
+
+    private final AbstractDataSource pool = new AbstractDataSource() {
+        @Override
+        public Connection getConnection() {
+            return (Connection) Proxy.newProxyInstance(
+                    ConnectionLimitingDataSourceTest.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close")) {
+                            closed.incrementAndGet();
+                        }
+
+                        return method.getReturnType() == boolean.class ? false : null;
+                    }
+            );
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+    };
+
+    @Nested
+    @DisplayName("getConnection tests")
+    class GetConnectionTests {
+        @Test
+        @DisplayName("should hand out connections up to the number of permits and release them on close")
+        void shouldHandOutConnectionsUpToTheNumberOfPermitsAndReleaseThemOnClose() throws Exception {
+            // Arrange
+            ConnectionLimitingDataSource sut = new ConnectionLimitingDataSource(pool, "primary", 2, Duration.ofSeconds(1), meterRegistry);
+
+            // Act
+            Connection first = sut.getConnection();
+            Connection second = sut.getConnection();
+            double activeWhileHeld = meterRegistry.get("db.limiter.active").gauge().value();
+
+            first.close();
+            first.close();
+            second.close();
+
+            // Assert
+            assertThat(activeWhileHeld).isEqualTo(2);
+            assertThat(closed).hasValue(3);
+            assertThat(meterRegistry.get("db.limiter.active").gauge().value()).isZero();
+            assertThat(meterRegistry.get("db.limiter.wait").timer().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should report each pool's permits separately")
+        void shouldReportEachPoolsPermitsSeparately() throws Exception {
+            // Arrange
+            ConnectionLimitingDataSource primary = new ConnectionLimitingDataSource(pool, "primary", 2, Duration.ofSeconds(1), meterRegistry);
+            ConnectionLimitingDataSource reporting = new ConnectionLimitingDataSource(pool, "reporting", 2, Duration.ofSeconds(1), meterRegistry);
+
+            // Act
+            Connection connection = reporting.getConnection();
+
+            // Assert
+            assertThat(meterRegistry.get("db.limiter.active").tag("pool", "primary").gauge().value()).isZero();
+            assertThat(meterRegistry.get("db.limiter.active").tag("pool", "reporting").gauge().value()).isEqualTo(1);
+            assertThat(meterRegistry.get("db.limiter.wait").tag("pool", "reporting").timer().count()).isEqualTo(1);
+            assertThat(primary.getConnection()).isNotNull();
+
+            connection.close();
+        }
+
+        @Test
+        @DisplayName("should reject a caller that waits longer than the max wait for a permit")
+        void shouldRejectACallerThatWaitsLongerThanTheMaxWaitForAPermit() throws Exception {
+            // Arrange
+            ConnectionLimitingDataSource sut = new ConnectionLimitingDataSource(pool, "primary", 1, Duration.ofMillis(50), meterRegistry);
+            Connection held = sut.getConnection();
+
+            // Act & Assert
+            assertThatThrownBy(sut::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(meterRegistry.get("db.limiter.rejected").counter().count()).isEqualTo(1);
+
+            held.close();
+            assertThat(sut.getConnection()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("should give a queued caller the permit once a connection is closed")
+        void shouldGiveAQueuedCallerThePermitOnceAConnectionIsClosed() throws Exception {
+            // Arrange
+            ConnectionLimitingDataSource sut = new ConnectionLimitingDataSource(pool, "primary", 1, Duration.ofSeconds(5), meterRegistry);
+            Connection held = sut.getConnection();
+
+            CompletableFuture<Connection> queued = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return sut.getConnection();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            while (meterRegistry.get("db.limiter.waiting").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            // Act
+            held.close();
+
+            // Assert
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+            assertThat(meterRegistry.get("db.limiter.rejected").counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("should give the permit back when the pool fails to open a connection")
+        void shouldGiveThePermitBackWhenThePoolFailsToOpenAConnection() throws Exception {
+            // Arrange
+            AbstractDataSource failingPool = new AbstractDataSource() {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    throw new SQLTransientConnectionException("pool timed out");
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return getConnection();
+                }
+            };
+            ConnectionLimitingDataSource sut = new ConnectionLimitingDataSource(failingPool, "primary", 1, Duration.ofMillis(50), meterRegistry);
+
+            // Act & Assert
+            assertThatThrownBy(sut::getConnection).hasMessage("pool timed out");
+            assertThatThrownBy(sut::getConnection).hasMessage("pool timed out");
+            assertThat(meterRegistry.get("db.limiter.rejected").counter().count()).isZero();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.mumuca.moneytracker.api.datasource;
+
+import com.mumuca.moneytracker.api.account.dto.AccountDTO;
+import com.mumuca.moneytracker.api.account.dto.CreateAccountDTO;
+import com.mumuca.moneytracker.api.account.model.AccountType;
+import com.mumuca.moneytracker.api.account.service.AccountService;
+import com.mumuca.moneytracker.api.auth.model.User;
+import com.mumuca.moneytracker.api.auth.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.mumuca.moneytracker.api.testutil.EntityCleanupUtil.deleteUsers;
+import static com.mumuca.moneytracker.api.testutil.EntityGeneratorUtil.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("ReplicaRoutingDataSource Integration Tests")
+class ReplicaRoutingDataSourceIntegrationTest {
+
+    private static final String APPLICATION_NAME_QUERY = "select current_setting('application_name')";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spring.datasource.url}")
+    private String primaryUrl;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> committedUserIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        deleteUsers(jdbcTemplate, committedUserIds);
+        SecurityContextHolder.clearContext();
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.get("db.routing.connections")
+                .tag("target", target)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    private static String applicationName(PlatformTransactionManager transactionManager, DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject(APPLICATION_NAME_QUERY, String.class)
+        );
+    }
+
+    @Nested
+    @DisplayName("routing tests")
+    class RoutingTests {
+        @Test
+        @DisplayName("should run read-only transactions on the replica and the others on the primary")
+        void shouldRunReadOnlyTransactionsOnTheReplicaAndTheOthersOnThePrimary() {
+            // Act
+            String readOnly = applicationName(transactionManager, dataSource, true);
+            String readWrite = applicationName(transactionManager, dataSource, false);
+
+            // Assert
+            assertThat(readOnly).isEqualTo("moneytracker-replica");
+            assertThat(readWrite).isNotEqualTo("moneytracker-replica");
+        }
+
+        @Test
+        @DisplayName("should keep a user on the primary right after their write while other users read from the replica")
+        void shouldKeepAUserOnThePrimaryRightAfterTheirWriteWhileOtherUsersReadFromTheReplica() {
+            // Arrange
+            User writer = userRepository.save(createUser());
+            committedUserIds.add(writer.getId());
+            User reader = userRepository.save(createUser());
+            committedUserIds.add(reader.getId());
+
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(writer.getId(), null, "USER"));
+
+            AccountDTO created = accountService.createAccount(
+                    new CreateAccountDTO(AccountType.WALLET, "Wallet", BigDecimal.TEN, "BRL", "#FFFFFF", "wallet"),
+                    writer.getId()
+            );
+
+            double stickyBefore = routed("primary", "read-your-writes");
+            double replicaBefore = routed("replica", "read-only");
+
+            // Act
+            List<AccountDTO> writerAccounts = accountService.listActiveAccounts(writer.getId());
+
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(reader.getId(), null, "USER"));
+            accountService.listActiveAccounts(reader.getId());
+
+            // Assert
+            assertThat(writerAccounts).extracting(AccountDTO::id).containsExactly(created.id());
+            assertThat(routed("primary", "read-your-writes")).isEqualTo(stickyBefore + 1);
+            assertThat(routed("replica", "read-only")).isEqualTo(replicaBefore + 1);
+        }
+
+        @Test
+        @DisplayName("should not keep a user on the primary after a read-write transaction that only read")
+        void shouldNotKeepAUserOnThePrimaryAfterAReadWriteTransactionThatOnlyRead() {
+            // Arrange
+            User user = userRepository.save(createUser());
+            committedUserIds.add(user.getId());
+
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user.getId(), null, "USER"));
+
+            applicationName(transactionManager, dataSource, false);
+
+            double stickyBefore = routed("primary", "read-your-writes");
+            double replicaBefore = routed("replica", "read-only");
+
+            // Act
+            String readOnly = applicationName(transactionManager, dataSource, true);
+
+            // Assert
+            assertThat(readOnly).isEqualTo("moneytracker-replica");
+            assertThat(routed("primary", "read-your-writes")).isEqualTo(stickyBefore);
+            assertThat(routed("replica", "read-only")).isEqualTo(replicaBefore + 1);
+        }
+
+        @Test
+        @DisplayName("should fall back to the primary when no replica passes the lag check")
+        void shouldFallBackToThePrimaryWhenNoReplicaPassesTheLagCheck() throws Exception {
+            // Arrange
+            SimpleMeterRegistry simpleMeterRegistry = new SimpleMeterRegistry();
+
+            DriverManagerDataSource primary = new DriverManagerDataSource(primaryUrl, username, password);
+            DriverManagerDataSource unreachableReplica = new DriverManagerDataSource(
+                    "jdbc:postgresql://localhost:1/testdb?connectTimeout=1", username, password
+            );
+
+            try (ReplicaRoutingDataSource sut = new ReplicaRoutingDataSource(
+                    primary,
+                    Map.of("unreachable", unreachableReplica),
+                    Duration.ofSeconds(5),
+                    Duration.ofMinutes(1),
+                    Duration.ofSeconds(10),
+                    Optional::empty,
+                    simpleMeterRegistry
+            )) {
+                sut.checkReplicas();
+
+                // Act
+                String readOnly = applicationName(new DataSourceTransactionManager(sut), sut, true);
+
+                // Assert
+                assertThat(readOnly).isNotEqualTo("moneytracker-replica");
+                assertThat(simpleMeterRegistry.get("db.replica.lag").gauge().value()).isNaN();
+                assertThat(simpleMeterRegistry.get("db.routing.connections")
+                        .tag("reason", "no-replica")
+                        .counter()
+                        .count()).isEqualTo(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.mumuca.moneytracker.api.etag.impl;
+
+import com.mumuca.moneytracker.api.account.dto.CreateAccountDTO;
+import com.mumuca.moneytracker.api.account.model.Account;
+import com.mumuca.moneytracker.api.account.model.AccountType;
+import com.mumuca.moneytracker.api.account.repository.AccountRepository;
+import com.mumuca.moneytracker.api.account.service.AccountService;
+import com.mumuca.moneytracker.api.auth.model.User;
+import com.mumuca.moneytracker.api.auth.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.mumuca.moneytracker.api.testutil.EntityCleanupUtil.deleteUsers;
+import static com.mumuca.moneytracker.api.testutil.EntityGeneratorUtil.createAccount;
+import static com.mumuca.moneytracker.api.testutil.EntityGeneratorUtil.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("UserVersionsImpl Integration Tests")
+class UserVersionsImplIntegrationTest {
+
+    @Autowired
+    private UserVersionsImpl sut;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> committedUserIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        deleteUsers(jdbcTemplate, committedUserIds);
+    }
+
+    @Nested
+    @DisplayName("current tests")
+    class CurrentTests {
+        @Test
+        @DisplayName("should keep the version of a user until they write")
+        void shouldKeepTheVersionOfAUserUntilTheyWrite() {
+            // Arrange
+            User user = userRepository.save(createUser());
+            committedUserIds.add(user.getId());
+            User otherUser = userRepository.save(createUser());
+            committedUserIds.add(otherUser.getId());
+
+            Optional<String> before = sut.current(user.getId());
+            Optional<String> otherBefore = sut.current(otherUser.getId());
+
+            // Act
+            Optional<String> unchanged = sut.current(user.getId());
+
+            accountService.createAccount(
+                    new CreateAccountDTO(AccountType.WALLET, "Wallet", BigDecimal.TEN, "BRL", "#FFFFFF", "wallet"),
+                    user.getId()
+            );
+
+            Optional<String> after = sut.current(user.getId());
+
+            // Assert
+            assertThat(before).isPresent();
+            assertThat(unchanged).isEqualTo(before);
+            assertThat(after).isPresent().isNotEqualTo(before);
+            assertThat(sut.current(otherUser.getId())).isEqualTo(otherBefore);
+        }
+
+        @Test
+        @DisplayName("should change the version only once the writing transaction completes")
+        void shouldChangeTheVersionOnlyOnceTheWritingTransactionCompletes() {
+            // Arrange
+            User user = userRepository.save(createUser());
+            committedUserIds.add(user.getId());
+
+            Account account = createAccount();
+            account.setUser(user);
+            accountRepository.save(account);
+
+            Optional<String> before = sut.current(user.getId());
+
+            // Act
+            Optional<String> duringWrite = new TransactionTemplate(transactionManager).execute(status -> {
+                accountService.archiveAccount(account.getId(), user.getId());
+                return sut.current(user.getId());
+            });
+
+            Optional<String> afterWrite = sut.current(user.getId());
+
+            // Assert
+            assertThat(duringWrite).isEqualTo(before);
+            assertThat(afterWrite).isNotEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("should change the version when the user is updated")
+        void shouldChangeTheVersionWhenTheUserIsUpdated() {
+            // Arrange
+            User user = userRepository.save(createUser());
+            committedUserIds.add(user.getId());
+
+            Optional<String> before = sut.current(user.getId());
+
+            // Act
+            user.setFirstName("Renamed");
+            userRepository.save(user);
+
+            // Assert
+            assertThat(sut.current(user.getId())).isNotEqualTo(before);
+        }
+    }
+
+    @Nested
+    @DisplayName("bump tests")
+    class BumpTests {
+        @Test
+        @DisplayName("should change the version a second time once replicas have caught up")
+        void shouldChangeTheVersionASecondTimeOnceReplicasHaveCaughtUp() {
+            // Arrange
+            MockEnvironment environment = new MockEnvironment()
+                    .withProperty("db.replicas.urls", "jdbc:postgresql://replica/testdb")
+                    .withProperty("db.replicas.max-lag", "200ms");
+            environment.setConversionService(new ApplicationConversionService());
+
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+            UserVersionsImpl versions = new UserVersionsImpl(
+                    100,
+                    false,
+                    Duration.ofDays(1),
+                    Duration.ofMillis(50),
+                    new StaticListableBeanFactory().getBeanProvider(StringRedisTemplate.class),
+                    new ConcurrentTaskScheduler(scheduler),
+                    environment,
+                    new SimpleMeterRegistry()
+            );
+            String userId = UUID.randomUUID().toString();
+            Optional<String> before = versions.current(userId);
+
+            // Act
+            versions.bump(userId);
+            Optional<String> afterWrite = versions.current(userId);
+
+            // Closing runs the delayed tasks that are still queued.
+            scheduler.close();
+
+            // Assert
+            assertThat(afterWrite).isNotEqualTo(before);
+            assertThat(versions.current(userId)).isPresent().isNotEqualTo(afterWrite);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.mumuca.moneytracker.api.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DeferredFlushFilter Tests")
+class DeferredFlushFilterTest {
+
+    private final DeferredFlushFilter sut = new DeferredFlushFilter();
+
+    private static MockFilterChain flushingHandler() {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response)
+                    throws IOException {
+                ServletOutputStream body = response.getOutputStream();
+                body.write("{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8));
+                body.flush();
+                response.flushBuffer();
+            }
+        });
+    }
+
+    @Nested
+    @DisplayName("doFilter tests")
+    class DoFilterTests {
+        @Test
+        @DisplayName("should keep the response uncommitted when the handler flushes")
+        void shouldKeepTheResponseUncommittedWhenTheHandlerFlushes() throws Exception {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/me");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // Act
+            sut.doFilter(request, response, flushingHandler());
+
+            // Assert
+            assertThat(response.isCommitted()).isFalse();
+            assertThat(response.getContentAsString()).isEqualTo("{\"id\":\"1\"}");
+        }
+
+        @Test
+        @DisplayName("should let event streams flush")
+        void shouldLetEventStreamsFlush() throws Exception {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/events");
+            request.addHeader(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // Act
+            sut.doFilter(request, response, flushingHandler());
+
+            // Assert
+            assertThat(response.isCommitted()).isTrue();
+        }
+    }
+}
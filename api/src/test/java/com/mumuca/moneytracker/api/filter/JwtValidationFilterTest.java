@@ -0,0 +1,175 @@
+package com.mumuca.moneytracker.api.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mumuca.moneytracker.api.auth.service.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtValidationFilter Tests")
+class JwtValidationFilterTest {
+
+    private final AtomicInteger decodeCalls = new AtomicInteger();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final JwtDecoder jwtDecoder = token -> {
+        decodeCalls.incrementAndGet();
+
+        if (!token.equals("valid-token")) {
+            throw new BadJwtException("Invalid token");
+        }
+
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("user-id")
+                .claim("roles", List.of("USER"))
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+    };
+
+    private final Set<String> revokedTokens = new HashSet<>();
+
+    private final TokenRevocationService tokenRevocationService = new TokenRevocationService() {
+        @Override
+        public void revoke(String tokenValue, Instant expiresAt) {
+            revokedTokens.add(tokenValue);
+        }
+
+        @Override
+        public boolean isRevoked(String tokenValue) {
+            return revokedTokens.contains(tokenValue);
+        }
+    };
+
+    private final JwtValidationFilter sut = new JwtValidationFilter(
+            jwtDecoder,
+            tokenRevocationService,
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            meterRegistry
+    );
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("doFilter tests")
+    class DoFilterTests {
+        @Test
+        @DisplayName("should authenticate with the jwt cookie decoding it once")
+        void shouldAuthenticateWithTheJwtCookieDecodingItOnce() throws Exception {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setCookies(new Cookie("theme", "dark"), new Cookie("jwt", "valid-token"));
+            MockFilterChain filterChain = new MockFilterChain();
+
+            // Act
+            sut.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+            // Assert
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+            assertThat(filterChain.getRequest()).isNotNull();
+            assertThat(decodeCalls).hasValue(1);
+            assertThat(authentication.getPrincipal()).isInstanceOf(Jwt.class);
+            assertThat(authentication.getName()).isEqualTo("user-id");
+            assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("USER");
+            assertThat(meterRegistry.get("jwt.decodes").tag("outcome", "success").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should authenticate with a bearer authorization header")
+        void shouldAuthenticateWithABearerAuthorizationHeader() throws Exception {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader("Authorization", "Bearer valid-token");
+
+            // Act
+            sut.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            // Assert
+            assertThat(decodeCalls).hasValue(1);
+            assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("user-id");
+        }
+
+        @Test
+        @DisplayName("should continue unauthenticated when there is no token")
+        void shouldContinueUnauthenticatedWhenThereIsNoToken() throws Exception {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader("Authorization", "Basic dXNlcjpwYXNz");
+            MockFilterChain filterChain = new MockFilterChain();
+
+            // Act
+            sut.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+            // Assert
+            assertThat(filterChain.getRequest()).isNotNull();
+            assertThat(decodeCalls).hasValue(0);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("should reply 401 when the token is invalid")
+        void shouldReply401WhenTheTokenIsInvalid() throws Exception {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setCookies(new Cookie("jwt", "tampered-token"));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain filterChain = new MockFilterChain();
+
+            // Act
+            sut.doFilter(request, response, filterChain);
+
+            // Assert
+            assertThat(filterChain.getRequest()).isNull();
+            assertThat(response.getStatus()).isEqualTo(401);
+            assertThat(response.getContentAsString()).contains("Invalid or expired token");
+            assertThat(meterRegistry.get("jwt.decodes").tag("outcome", "failure").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should reply 401 when the token was revoked")
+        void shouldReply401WhenTheTokenWasRevoked() throws Exception {
+            // Arrange
+            tokenRevocationService.revoke("valid-token", Instant.now().plusSeconds(60));
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setCookies(new Cookie("jwt", "valid-token"));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain filterChain = new MockFilterChain();
+
+            // Act
+            sut.doFilter(request, response, filterChain);
+
+            // Assert
+            assertThat(filterChain.getRequest()).isNull();
+            assertThat(response.getStatus()).isEqualTo(401);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+            assertThat(meterRegistry.get("jwt.decodes").tag("outcome", "revoked").counter().count()).isEqualTo(1);
+        }
+    }
+}
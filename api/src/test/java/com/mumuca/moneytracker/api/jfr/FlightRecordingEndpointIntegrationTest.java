@@ -0,0 +1,148 @@
+package com.mumuca.moneytracker.api.jfr;
+
+import com.mumuca.moneytracker.api.account.dto.RegisterUniqueTransferDTO;
+import com.mumuca.moneytracker.api.account.model.Account;
+import com.mumuca.moneytracker.api.account.repository.AccountRepository;
+import com.mumuca.moneytracker.api.account.service.TransferService;
+import com.mumuca.moneytracker.api.auth.model.User;
+import com.mumuca.moneytracker.api.auth.repository.UserRepository;
+import com.mumuca.moneytracker.api.model.Money;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mumuca.moneytracker.api.testutil.EntityCleanupUtil.deleteUsers;
+import static com.mumuca.moneytracker.api.testutil.EntityGeneratorUtil.createAccount;
+import static com.mumuca.moneytracker.api.testutil.EntityGeneratorUtil.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("FlightRecordingEndpoint Integration Tests")
+class FlightRecordingEndpointIntegrationTest {
+
+    @Autowired
+    private FlightRecordingEndpoint sut;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> committedUserIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        deleteUsers(jdbcTemplate, committedUserIds);
+    }
+
+    @Nested
+    @DisplayName("start and stop tests")
+    class StartAndStopTests {
+        @Test
+        @DisplayName("should record the transfer events of a domain recording to disk")
+        void shouldRecordTheTransferEventsOfADomainRecordingToDisk() throws Exception {
+            // Arrange
+            User user = userRepository.save(createUser());
+            committedUserIds.add(user.getId());
+
+            Account sourceAccount = createAccount();
+            sourceAccount.setBalance(new Money(BigDecimal.valueOf(500), "BRL"));
+            sourceAccount.setUser(user);
+
+            Account destinationAccount = createAccount();
+            destinationAccount.setBalance(new Money(BigDecimal.ZERO, "BRL"));
+            destinationAccount.setUser(user);
+
+            accountRepository.saveAll(List.of(sourceAccount, destinationAccount));
+
+            RegisterUniqueTransferDTO registerUniqueTransferDTO = new RegisterUniqueTransferDTO(
+                    "Test Transfer",
+                    "Test Description",
+                    BigDecimal.valueOf(100),
+                    "BRL",
+                    sourceAccount.getId(),
+                    destinationAccount.getId(),
+                    LocalDate.now(),
+                    LocalDate.now()
+            );
+
+            // Act
+            FlightRecordingEndpoint.RecordingDescriptor started = sut.start(
+                    FlightRecordingEndpoint.Profile.DOMAIN,
+                    Duration.ofMinutes(1)
+            );
+
+            String recurrenceId = transferService.registerUniqueTransfer(registerUniqueTransferDTO, user.getId()).id();
+
+            FlightRecordingEndpoint.RecordingDescriptor stopped = sut.stop(started.id());
+
+            // Assert
+            assertThat(started.state()).isEqualTo(RecordingState.RUNNING);
+            assertThat(stopped.state()).isEqualTo(RecordingState.CLOSED);
+            assertThat(sut.recordings()).noneMatch(recording -> recording.id() == started.id());
+
+            Path destination = Path.of(stopped.destination());
+            assertThat(destination).exists();
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(destination);
+
+            assertThat(events)
+                    .filteredOn(event -> event.getEventType().getName().equals("com.mumuca.moneytracker.TransferRegistered"))
+                    .singleElement()
+                    .satisfies(event -> {
+                        assertThat(event.getString("recurrenceId")).isEqualTo(recurrenceId);
+                        assertThat(event.getInt("installments")).isEqualTo(1);
+                        assertThat(event.getBoolean("paid")).isTrue();
+                        assertThat(event.getDuration()).isPositive();
+                    });
+
+            assertThat(events)
+                    .filteredOn(event -> event.getEventType().getName().equals("com.mumuca.moneytracker.BalanceMutated"))
+                    .extracting(event -> event.getString("accountId"), event -> event.getString("mutation"))
+                    .containsExactlyInAnyOrder(
+                            tuple(sourceAccount.getId(), BalanceMutatedEvent.WITHDRAWAL),
+                            tuple(destinationAccount.getId(), BalanceMutatedEvent.DEPOSIT)
+                    );
+
+            Files.deleteIfExists(destination);
+        }
+
+        @Test
+        @DisplayName("should return null when stopping a recording that was not started here")
+        void shouldReturnNullWhenStoppingARecordingThatWasNotStartedHere() {
+            // Act
+            FlightRecordingEndpoint.RecordingDescriptor stopped = sut.stop(Long.MAX_VALUE);
+
+            // Assert
+            assertThat(stopped).isNull();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.mumuca.moneytracker.api.metrics;
+
+import com.mumuca.moneytracker.api.account.service.AccountService;
+import com.mumuca.moneytracker.api.auth.model.User;
+import com.mumuca.moneytracker.api.auth.repository.UserRepository;
+import com.mumuca.moneytracker.api.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.mumuca.moneytracker.api.testutil.EntityGeneratorUtil.createUser;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("OperationMetricsAspect Integration Tests")
+class OperationMetricsAspectIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @Transactional
+    @DisplayName("should time service calls by operation and outcome")
+    void shouldTimeServiceCallsByOperationAndOutcome() {
+        // Arrange
+        User user = createUser();
+        userRepository.save(user);
+
+        long successesBefore = count(OperationMetricsAspect.SERVICE_TIMER, "AccountService.listActiveAccounts", "success", "none");
+        long errorsBefore = count(OperationMetricsAspect.SERVICE_TIMER, "AccountService.getAccount", "error", "ResourceNotFoundException");
+
+        // Act
+        accountService.listActiveAccounts(user.getId());
+
+        assertThatThrownBy(() -> accountService.getAccount(randomUUID().toString(), user.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        // Assert
+        assertThat(count(OperationMetricsAspect.SERVICE_TIMER, "AccountService.listActiveAccounts", "success", "none"))
+                .isEqualTo(successesBefore + 1);
+        assertThat(count(OperationMetricsAspect.SERVICE_TIMER, "AccountService.getAccount", "error", "ResourceNotFoundException"))
+                .isEqualTo(errorsBefore + 1);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("should leave repository calls to Spring Data's own timer")
+    void shouldLeaveRepositoryCallsToSpringDatasOwnTimer() {
+        // Arrange
+        Timer before = meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "UserRepository")
+                .tag("method", "save")
+                .timer();
+        long savesBefore = before == null ? 0 : before.count();
+
+        // Act
+        userRepository.save(createUser());
+
+        // Assert
+        assertThat(meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "UserRepository")
+                .tag("method", "save")
+                .timer()
+                .count())
+                .isEqualTo(savesBefore + 1);
+        assertThat(meterRegistry.find("repository.invocations").timers()).isEmpty();
+    }
+
+    private long count(String timerName, String operation, String outcome, String exception) {
+        Timer timer = meterRegistry.find(timerName)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .timer();
+
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,93 @@
+package com.mumuca.moneytracker.api.metrics;
+
+import com.mumuca.moneytracker.api.auth.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("QueryCounter Integration Tests")
+class QueryCounterIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
+    }
+
+    @Test
+    @DisplayName("should count the statements executed while started")
+    void shouldCountTheStatementsExecutedWhileStarted() {
+        // Arrange
+        userRepository.findById(randomUUID().toString());
+
+        // Act
+        QueryStatistics statistics = QueryCounter.start();
+
+        for (int i = 0; i < 3; i++) {
+            userRepository.findById(randomUUID().toString());
+        }
+
+        QueryCounter.stop();
+        userRepository.findById(randomUUID().toString());
+
+        // Assert
+        assertThat(statistics.getStatementCount()).isEqualTo(3);
+        assertThat(statistics.getElapsedTime()).isPositive();
+        assertThat(statistics.getMostRepeatedShape()).hasValueSatisfying(shape -> {
+            assertThat(shape.getKey()).startsWith("select").contains("from users");
+            assertThat(shape.getValue()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("should count statements of propagated tasks run on other threads")
+    void shouldCountStatementsOfPropagatedTasksRunOnOtherThreads() {
+        // Arrange
+        QueryStatistics statistics = QueryCounter.start();
+
+        // Act
+        try (ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture.allOf(
+                    CompletableFuture.runAsync(QueryCounter.propagate(() -> userRepository.findById(randomUUID().toString())), virtualThreadExecutor),
+                    CompletableFuture.runAsync(QueryCounter.propagate(() -> userRepository.findById(randomUUID().toString())), virtualThreadExecutor)
+            ).join();
+        }
+
+        // Assert
+        assertThat(statistics.getStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should not count statements of threads that were only started while counting")
+    void shouldNotCountStatementsOfThreadsThatWereOnlyStartedWhileCounting() {
+        // Arrange
+        QueryStatistics statistics = QueryCounter.start();
+
+        // Act
+        try (ExecutorService pool = Executors.newSingleThreadExecutor()) {
+            CompletableFuture.runAsync(() -> userRepository.findById(randomUUID().toString()), pool).join();
+            QueryCounter.stop();
+            CompletableFuture.runAsync(() -> userRepository.findById(randomUUID().toString()), pool).join();
+        }
+
+        // Assert
+        assertThat(statistics.getStatementCount()).isZero();
+    }
+}
@@ -0,0 +1,130 @@
+package com.mumuca.moneytracker.api.metrics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.mumuca.moneytracker.api.account.model.Account;
+import com.mumuca.moneytracker.api.account.repository.AccountRepository;
+import com.mumuca.moneytracker.api.account.service.AccountService;
+import com.mumuca.moneytracker.api.auth.model.User;
+import com.mumuca.moneytracker.api.auth.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.mumuca.moneytracker.api.testutil.EntityGeneratorUtil.createAccount;
+import static com.mumuca.moneytracker.api.testutil.EntityGeneratorUtil.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("QueryLoggingListener Integration Tests")
+class QueryLoggingListenerIntegrationTest {
+
+    @Autowired
+    private QueryLoggingListener queryLoggingListener;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private Object configuredSampleRate;
+
+    private Logger logger() {
+        return (Logger) LoggerFactory.getLogger("sql.queries");
+    }
+
+    @BeforeEach
+    void setUp() {
+        configuredSampleRate = ReflectionTestUtils.getField(queryLoggingListener, "sampleRate");
+        ReflectionTestUtils.setField(queryLoggingListener, "sampleRate", 1.0);
+        appender.start();
+        logger().addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger().detachAppender(appender);
+        ReflectionTestUtils.setField(queryLoggingListener, "sampleRate", configuredSampleRate);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("should log the service operation, parameter types and rows read of a query")
+    void shouldLogTheServiceOperationParameterTypesAndRowsReadOfAQuery() {
+        // Arrange
+        User user = userRepository.save(createUser());
+
+        for (int i = 0; i < 3; i++) {
+            Account account = createAccount();
+            account.setUser(user);
+            accountRepository.save(account);
+        }
+
+        accountRepository.flush();
+        appender.list.clear();
+
+        // Act
+        accountService.listActiveAccounts(user.getId());
+
+        // Assert
+        assertThat(appender.list)
+                .map(QueryLoggingListenerIntegrationTest::keyValues)
+                .filteredOn(keyValues -> "AccountService.listActiveAccounts".equals(keyValues.get("sql.operation")))
+                .singleElement()
+                .satisfies(keyValues -> {
+                    assertThat((String) keyValues.get("sql.query")).startsWith("select").contains("from accounts");
+                    assertThat(keyValues.get("sql.parameters")).isEqualTo(List.of("string"));
+                    assertThat(keyValues.get("sql.rows")).isEqualTo(3L);
+                    assertThat(keyValues.get("sql.success")).isEqualTo(true);
+                });
+    }
+
+    @Test
+    @DisplayName("should log the rows changed by an update outside of any service call")
+    void shouldLogTheRowsChangedByAnUpdateOutsideOfAnyServiceCall() {
+        // Arrange
+        User user = userRepository.save(createUser());
+        appender.list.clear();
+
+        // Act
+        userRepository.delete(user);
+
+        // Assert
+        assertThat(appender.list)
+                .map(QueryLoggingListenerIntegrationTest::keyValues)
+                .filteredOn(keyValues -> ((String) keyValues.get("sql.query")).startsWith("delete from users where"))
+                .singleElement()
+                .satisfies(keyValues -> {
+                    assertThat(keyValues.get("sql.operation")).isEqualTo("none");
+                    assertThat(keyValues.get("sql.rows")).isEqualTo(1L);
+                });
+    }
+
+    private static Map<String, Object> keyValues(ILoggingEvent event) {
+        return event.getKeyValuePairs().stream()
+                .filter(pair -> pair.value != null)
+                .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+    }
+}
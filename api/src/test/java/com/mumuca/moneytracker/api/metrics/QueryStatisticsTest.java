@@ -0,0 +1,54 @@
+package com.mumuca.moneytracker.api.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryStatistics Tests")
+class QueryStatisticsTest {
+
+    @Test
+    @DisplayName("should give statements that only differ in IN list size the same shape")
+    void shouldGiveStatementsThatOnlyDifferInInListSizeTheSameShape() {
+        // Act
+        String single = QueryStatistics.shapeOf("select r.id from roles r where r.id in (?)");
+        String several = QueryStatistics.shapeOf("select r.id from roles r where r.id in ( ?, ?,? )");
+
+        // Assert
+        assertThat(single).isEqualTo("select r.id from roles r where r.id in (?)");
+        assertThat(several).isEqualTo(single);
+    }
+
+    @Test
+    @DisplayName("should collapse whitespace")
+    void shouldCollapseWhitespace() {
+        // Act
+        String shape = QueryStatistics.shapeOf("\n  select count(*)\n    from transfers t\n   where t.recurrence_id=?\n");
+
+        // Assert
+        assertThat(shape).isEqualTo("select count(*) from transfers t where t.recurrence_id=?");
+    }
+
+    @Test
+    @DisplayName("should report the most repeated shape")
+    void shouldReportTheMostRepeatedShape() {
+        // Arrange
+        QueryStatistics statistics = new QueryStatistics();
+
+        // Act
+        statistics.record("select * from transfers where user_id=?", 1_000);
+
+        for (int i = 0; i < 3; i++) {
+            statistics.record("select count(*) from transfers where recurrence_id=?", 2_000);
+        }
+
+        // Assert
+        assertThat(statistics.getStatementCount()).isEqualTo(4);
+        assertThat(statistics.getElapsedTime().toNanos()).isEqualTo(7_000);
+        assertThat(statistics.getMostRepeatedShape()).hasValueSatisfying(shape -> {
+            assertThat(shape.getKey()).isEqualTo("select count(*) from transfers where recurrence_id=?");
+            assertThat(shape.getValue()).isEqualTo(3);
+        });
+    }
+}
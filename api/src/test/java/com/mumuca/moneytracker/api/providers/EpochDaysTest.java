@@ -0,0 +1,145 @@
+package com.mumuca.moneytracker.api.providers;
+
+import com.mumuca.moneytracker.api.account.model.RecurrenceInterval;
+import com.mumuca.moneytracker.api.providers.impl.DateProviderImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EpochDays Tests")
+class EpochDaysTest {
+
+    private static final int SAMPLES = 2_000;
+
+    private static final int MIN_EPOCH_DAY = (int) LocalDate.of(1900, 1, 1).toEpochDay();
+    private static final int MAX_EPOCH_DAY = (int) LocalDate.of(2199, 12, 31).toEpochDay();
+
+    private final DateProvider dateProvider = new DateProviderImpl(calendarId -> HolidayCalendar.WEEKENDS_ONLY);
+
+    private static int randomEpochDay(Random random) {
+        return MIN_EPOCH_DAY + random.nextInt(MAX_EPOCH_DAY - MIN_EPOCH_DAY + 1);
+    }
+
+    @Nested
+    @DisplayName("civil conversion tests")
+    class CivilConversionTests {
+        @Test
+        @DisplayName("should decompose epoch days like LocalDate")
+        void shouldDecomposeEpochDaysLikeLocalDate() {
+            Random random = new Random(28);
+
+            for (int i = 0; i < SAMPLES; i++) {
+                // Arrange
+                int epochDay = randomEpochDay(random);
+                LocalDate expected = LocalDate.ofEpochDay(epochDay);
+
+                // Act & Assert
+                assertThat(EpochDays.year(epochDay)).isEqualTo(expected.getYear());
+                assertThat(EpochDays.month(epochDay)).isEqualTo(expected.getMonthValue());
+                assertThat(EpochDays.dayOfMonth(epochDay)).isEqualTo(expected.getDayOfMonth());
+                assertThat(EpochDays.dayOfWeek(epochDay)).isEqualTo(expected.getDayOfWeek().getValue());
+                assertThat(EpochDays.lastDayOfMonth(epochDay))
+                        .isEqualTo(EpochDays.of(expected.withDayOfMonth(expected.lengthOfMonth())));
+                assertThat(EpochDays.of(expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth()))
+                        .isEqualTo(epochDay);
+            }
+        }
+
+        @Test
+        @DisplayName("should handle dates before the epoch and leap days")
+        void shouldHandleDatesBeforeTheEpochAndLeapDays() {
+            // Arrange
+            LocalDate beforeEpoch = LocalDate.of(1969, 12, 31);
+            LocalDate leapDay = LocalDate.of(2000, 2, 29);
+
+            // Act & Assert
+            assertThat(EpochDays.of(1969, 12, 31)).isEqualTo(beforeEpoch.toEpochDay());
+            assertThat(EpochDays.of(2000, 2, 29)).isEqualTo(leapDay.toEpochDay());
+            assertThat(EpochDays.toLocalDate(EpochDays.of(leapDay))).isEqualTo(leapDay);
+        }
+    }
+
+    @Nested
+    @DisplayName("arithmetic tests")
+    class ArithmeticTests {
+        @Test
+        @DisplayName("should add months and years with the same clamping as LocalDate")
+        void shouldAddMonthsAndYearsWithTheSameClampingAsLocalDate() {
+            Random random = new Random(12);
+
+            for (int i = 0; i < SAMPLES; i++) {
+                // Arrange
+                int epochDay = randomEpochDay(random);
+                int months = random.nextInt(481) - 240;
+                int years = random.nextInt(81) - 40;
+                LocalDate date = LocalDate.ofEpochDay(epochDay);
+
+                // Act & Assert
+                assertThat(EpochDays.toLocalDate(EpochDays.plusMonths(epochDay, months)))
+                        .as("%s plus %d months", date, months)
+                        .isEqualTo(date.plusMonths(months));
+                assertThat(EpochDays.toLocalDate(EpochDays.plusYears(epochDay, years)))
+                        .as("%s plus %d years", date, years)
+                        .isEqualTo(date.plusYears(years));
+            }
+        }
+
+        @Test
+        @DisplayName("should add days and weeks like LocalDate")
+        void shouldAddDaysAndWeeksLikeLocalDate() {
+            Random random = new Random(7);
+
+            for (int i = 0; i < SAMPLES; i++) {
+                // Arrange
+                int epochDay = randomEpochDay(random);
+                int amount = random.nextInt(2001) - 1000;
+                LocalDate date = LocalDate.ofEpochDay(epochDay);
+
+                // Act & Assert
+                assertThat(EpochDays.toLocalDate(EpochDays.plusDays(epochDay, amount))).isEqualTo(date.plusDays(amount));
+                assertThat(EpochDays.toLocalDate(EpochDays.plusWeeks(epochDay, amount))).isEqualTo(date.plusWeeks(amount));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("generate tests")
+    class GenerateTests {
+        @ParameterizedTest
+        @EnumSource(RecurrenceInterval.class)
+        @DisplayName("should generate the same dates as DateProvider.generateDates")
+        void shouldGenerateTheSameDatesAsDateProviderGenerateDates(RecurrenceInterval interval) {
+            Random random = new Random(interval.ordinal());
+
+            for (int i = 0; i < SAMPLES / 10; i++) {
+                // Arrange
+                int startEpochDay = randomEpochDay(random);
+                int occurrences = random.nextInt(201);
+                List<LocalDate> expected = dateProvider.generateDates(
+                        LocalDate.ofEpochDay(startEpochDay),
+                        interval,
+                        occurrences
+                );
+
+                // Act
+                int[] result = EpochDays.generate(startEpochDay, interval, occurrences);
+
+                // Assert
+                assertThat(result).hasSize(occurrences);
+
+                for (int j = 0; j < occurrences; j++) {
+                    assertThat(EpochDays.toLocalDate(result[j])).isEqualTo(expected.get(j));
+                    assertThat(EpochDays.occurrence(startEpochDay, interval, j)).isEqualTo(result[j]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.mumuca.moneytracker.api.providers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HolidayCalendar Tests")
+class HolidayCalendarTest {
+
+    private static final List<LocalDate> HOLIDAYS = List.of(
+            LocalDate.of(2024, 2, 29),
+            LocalDate.of(2024, 12, 31),
+            LocalDate.of(2025, 4, 18),
+            LocalDate.of(2025, 4, 21)
+    );
+
+    private final HolidayCalendar calendar = HolidayCalendar.compile("TEST", HOLIDAYS);
+
+    private static int epochDay(int year, int month, int dayOfMonth) {
+        return EpochDays.of(LocalDate.of(year, month, dayOfMonth));
+    }
+
+    @Nested
+    @DisplayName("isBusinessDay tests")
+    class IsBusinessDayTests {
+        @Test
+        @DisplayName("should match a set-based lookup for every day of the compiled years and beyond")
+        void shouldMatchASetBasedLookupForEveryDayOfTheCompiledYearsAndBeyond() {
+            // Arrange
+            Set<LocalDate> holidays = Set.copyOf(HOLIDAYS);
+
+            for (LocalDate date = LocalDate.of(2022, 1, 1); date.getYear() < 2028; date = date.plusDays(1)) {
+                boolean expected = date.getDayOfWeek() != DayOfWeek.SATURDAY
+                        && date.getDayOfWeek() != DayOfWeek.SUNDAY
+                        && !holidays.contains(date);
+
+                // Act & Assert
+                assertThat(calendar.isBusinessDay(date)).as("%s", date).isEqualTo(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("should only skip weekends on the weekends-only calendar")
+        void shouldOnlySkipWeekendsOnTheWeekendsOnlyCalendar() {
+            // Act & Assert
+            assertThat(HolidayCalendar.WEEKENDS_ONLY.isBusinessDay(LocalDate.of(2025, 12, 25))).isTrue();
+            assertThat(HolidayCalendar.WEEKENDS_ONLY.isBusinessDay(LocalDate.of(2025, 12, 27))).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("BusinessDayRule tests")
+    class BusinessDayRuleTests {
+        @Test
+        @DisplayName("should roll forward over the weekend and holidays")
+        void shouldRollForwardOverTheWeekendAndHolidays() {
+            // Act
+            int result = BusinessDayRule.FOLLOWING.adjust(epochDay(2025, 4, 18), calendar);
+
+            // Assert
+            assertThat(EpochDays.toLocalDate(result)).isEqualTo(LocalDate.of(2025, 4, 22));
+        }
+
+        @Test
+        @DisplayName("should roll backward over the weekend and holidays")
+        void shouldRollBackwardOverTheWeekendAndHolidays() {
+            // Act
+            int result = BusinessDayRule.PRECEDING.adjust(epochDay(2025, 4, 21), calendar);
+
+            // Assert
+            assertThat(EpochDays.toLocalDate(result)).isEqualTo(LocalDate.of(2025, 4, 17));
+        }
+
+        @Test
+        @DisplayName("should stay in the same month with modified following")
+        void shouldStayInTheSameMonthWithModifiedFollowing() {
+            // Act
+            int result = BusinessDayRule.MODIFIED_FOLLOWING.adjust(epochDay(2025, 5, 31), calendar);
+
+            // Assert
+            assertThat(EpochDays.toLocalDate(result)).isEqualTo(LocalDate.of(2025, 5, 30));
+        }
+
+        @Test
+        @DisplayName("should move to the last business day of the month")
+        void shouldMoveToTheLastBusinessDayOfTheMonth() {
+            // Act
+            int result = BusinessDayRule.LAST_BUSINESS_DAY_OF_MONTH.adjust(epochDay(2024, 12, 5), calendar);
+
+            // Assert
+            assertThat(EpochDays.toLocalDate(result)).isEqualTo(LocalDate.of(2024, 12, 30));
+        }
+
+        @Test
+        @DisplayName("should move to the last day of the month")
+        void shouldMoveToTheLastDayOfTheMonth() {
+            // Act
+            int result = BusinessDayRule.END_OF_MONTH.adjust(epochDay(2024, 2, 10), calendar);
+
+            // Assert
+            assertThat(EpochDays.toLocalDate(result)).isEqualTo(LocalDate.of(2024, 2, 29));
+        }
+    }
+}
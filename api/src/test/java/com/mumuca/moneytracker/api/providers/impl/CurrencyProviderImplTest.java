@@ -0,0 +1,57 @@
+package com.mumuca.moneytracker.api.providers.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CurrencyProviderImpl Tests")
+class CurrencyProviderImplTest {
+
+    private final CurrencyProviderImpl sut = new CurrencyProviderImpl();
+
+    @Nested
+    @DisplayName("convertCurrencies tests")
+    class ConvertCurrenciesTests {
+        @Test
+        @DisplayName("should keep amounts that are already in the target currency")
+        void shouldKeepAmountsThatAreAlreadyInTheTargetCurrency() {
+            // Arrange
+            BigDecimal[] amounts = {BigDecimal.valueOf(10), BigDecimal.valueOf(25.5), BigDecimal.ZERO};
+            String[] currencies = {"BRL", "brl", "BRL"};
+
+            // Act
+            BigDecimal[] result = sut.convertCurrencies(amounts, currencies, "BRL");
+
+            // Assert
+            assertThat(result).containsExactly(amounts);
+        }
+
+        @Test
+        @DisplayName("should return an empty array when there is nothing to convert")
+        void shouldReturnAnEmptyArrayWhenThereIsNothingToConvert() {
+            // Act
+            BigDecimal[] result = sut.convertCurrencies(new BigDecimal[0], new String[0], "BRL");
+
+            // Assert
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException if amounts and currencies lengths differ")
+        void shouldThrowIllegalArgumentExceptionIfAmountsAndCurrenciesLengthsDiffer() {
+            // Arrange
+            BigDecimal[] amounts = {BigDecimal.ONE, BigDecimal.TEN};
+            String[] currencies = {"BRL"};
+
+            // Act & Assert
+            assertThatThrownBy(() -> sut.convertCurrencies(amounts, currencies, "BRL"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("same length");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.mumuca.moneytracker.api.providers.impl;
 
 import com.mumuca.moneytracker.api.account.model.RecurrenceInterval;
+import com.mumuca.moneytracker.api.providers.BusinessDayRule;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -10,8 +11,10 @@ import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringJUnitConfig(classes = DateProviderImplTest.Config.class)
 @DisplayName("DateProviderImpl Tests")
@@ -190,4 +193,227 @@ class DateProviderImplTest {
             assertThat(result).isEmpty();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("streamDates tests")
+    class StreamDatesTests {
+        @Test
+        @DisplayName("should yield the same dates as generateDates for every interval")
+        void shouldYieldTheSameDatesAsGenerateDatesForEveryInterval() {
+            // Arrange
+            LocalDate startDate = LocalDate.of(2024, 1, 31);
+
+            for (RecurrenceInterval interval : RecurrenceInterval.values()) {
+                // Act
+                List<LocalDate> result = sut.streamDates(startDate, interval).limit(30).toList();
+
+                // Assert
+                assertThat(result).containsExactlyElementsOf(sut.generateDates(startDate, interval, 30));
+            }
+        }
+
+        @Test
+        @DisplayName("should clamp month ends from the first occurrence")
+        void shouldClampMonthEndsFromTheFirstOccurrence() {
+            // Arrange
+            LocalDate startDate = LocalDate.of(2025, 1, 31);
+
+            // Act
+            List<LocalDate> result = sut.streamDates(startDate, RecurrenceInterval.MONTHLY).limit(3).toList();
+
+            // Assert
+            assertThat(result).containsExactly(
+                    LocalDate.of(2025, 1, 31),
+                    LocalDate.of(2025, 2, 28),
+                    LocalDate.of(2025, 3, 31)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("nextOccurrenceOnOrAfter tests")
+    class NextOccurrenceOnOrAfterTests {
+        @Test
+        @DisplayName("should return the first occurrence when date is before the start date")
+        void shouldReturnTheFirstOccurrenceWhenDateIsBeforeTheStartDate() {
+            // Arrange
+            LocalDate startDate = LocalDate.of(2025, 1, 10);
+
+            // Act
+            LocalDate result = sut.nextOccurrenceOnOrAfter(startDate, RecurrenceInterval.WEEKLY, LocalDate.of(2024, 6, 1));
+
+            // Assert
+            assertThat(result).isEqualTo(startDate);
+        }
+
+        @Test
+        @DisplayName("should return the date itself when it is an occurrence")
+        void shouldReturnTheDateItselfWhenItIsAnOccurrence() {
+            // Arrange
+            LocalDate startDate = LocalDate.of(2025, 1, 1);
+
+            // Act
+            LocalDate result = sut.nextOccurrenceOnOrAfter(startDate, RecurrenceInterval.BIWEEKLY, LocalDate.of(2025, 1, 29));
+
+            // Assert
+            assertThat(result).isEqualTo(LocalDate.of(2025, 1, 29));
+        }
+
+        @Test
+        @DisplayName("should match a linear scan for every interval")
+        void shouldMatchALinearScanForEveryInterval() {
+            // Arrange
+            LocalDate startDate = LocalDate.of(2024, 2, 29);
+
+            for (RecurrenceInterval interval : RecurrenceInterval.values()) {
+                List<LocalDate> occurrences = sut.generateDates(startDate, interval, 60);
+                LocalDate last = occurrences.getLast();
+
+                for (LocalDate date = startDate.minusDays(3); date.isBefore(last); date = date.plusDays(1)) {
+                    LocalDate target = date;
+                    LocalDate expected = occurrences.stream()
+                            .filter(occurrence -> !occurrence.isBefore(target))
+                            .findFirst()
+                            .orElseThrow();
+
+                    // Act
+                    LocalDate result = sut.nextOccurrenceOnOrAfter(startDate, interval, date);
+
+                    // Assert
+                    assertThat(result).as("%s on or after %s", interval, date).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("occurrencesBetween tests")
+    class OccurrencesBetweenTests {
+        @Test
+        @DisplayName("should only yield occurrences inside the window")
+        void shouldOnlyYieldOccurrencesInsideTheWindow() {
+            // Arrange
+            LocalDate startDate = LocalDate.of(2025, 1, 31);
+
+            // Act
+            Stream<LocalDate> result = sut.occurrencesBetween(
+                    startDate,
+                    RecurrenceInterval.MONTHLY,
+                    LocalDate.of(2025, 2, 1),
+                    LocalDate.of(2025, 5, 30)
+            );
+
+            // Assert
+            assertThat(result).containsExactly(
+                    LocalDate.of(2025, 2, 28),
+                    LocalDate.of(2025, 3, 31),
+                    LocalDate.of(2025, 4, 30)
+            );
+        }
+
+        @Test
+        @DisplayName("should include both window bounds")
+        void shouldIncludeBothWindowBounds() {
+            // Arrange
+            LocalDate startDate = LocalDate.of(2025, 1, 1);
+
+            // Act
+            Stream<LocalDate> result = sut.occurrencesBetween(
+                    startDate,
+                    RecurrenceInterval.DAILY,
+                    LocalDate.of(2025, 3, 1),
+                    LocalDate.of(2025, 3, 3)
+            );
+
+            // Assert
+            assertThat(result).containsExactly(
+                    LocalDate.of(2025, 3, 1),
+                    LocalDate.of(2025, 3, 2),
+                    LocalDate.of(2025, 3, 3)
+            );
+        }
+
+        @Test
+        @DisplayName("should return an empty stream when the window ends before it starts")
+        void shouldReturnAnEmptyStreamWhenTheWindowEndsBeforeItStarts() {
+            // Arrange
+            LocalDate startDate = LocalDate.of(2025, 1, 1);
+
+            // Act
+            Stream<LocalDate> result = sut.occurrencesBetween(
+                    startDate,
+                    RecurrenceInterval.YEARLY,
+                    LocalDate.of(2026, 1, 1),
+                    LocalDate.of(2025, 1, 1)
+            );
+
+            // Assert
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("adjusted generateDates tests")
+    class AdjustedGenerateDatesTests {
+        @Test
+        @DisplayName("should roll bills to the next business day using the BR calendar")
+        void shouldRollBillsToTheNextBusinessDayUsingTheBrCalendar() {
+            // Arrange
+            LocalDate startDate = LocalDate.of(2025, 2, 3);
+
+            // Act
+            List<LocalDate> result = sut.generateDates(
+                    startDate,
+                    RecurrenceInterval.MONTHLY,
+                    3,
+                    BusinessDayRule.FOLLOWING,
+                    "BR"
+            );
+
+            // Assert
+            assertThat(result).containsExactly(
+                    LocalDate.of(2025, 2, 3),
+                    LocalDate.of(2025, 3, 5),
+                    LocalDate.of(2025, 4, 3)
+            );
+        }
+
+        @Test
+        @DisplayName("should land salaries on the last business day of the month")
+        void shouldLandSalariesOnTheLastBusinessDayOfTheMonth() {
+            // Arrange
+            LocalDate startDate = LocalDate.of(2025, 5, 31);
+
+            // Act
+            List<LocalDate> result = sut.generateDates(
+                    startDate,
+                    RecurrenceInterval.MONTHLY,
+                    3,
+                    BusinessDayRule.LAST_BUSINESS_DAY_OF_MONTH,
+                    "BR"
+            );
+
+            // Assert
+            assertThat(result).containsExactly(
+                    LocalDate.of(2025, 5, 30),
+                    LocalDate.of(2025, 6, 30),
+                    LocalDate.of(2025, 7, 31)
+            );
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException if calendar does not exist")
+        void shouldThrowIllegalArgumentExceptionIfCalendarDoesNotExist() {
+            // Act & Assert
+            assertThatThrownBy(() -> sut.generateDates(
+                    LocalDate.of(2025, 1, 1),
+                    RecurrenceInterval.MONTHLY,
+                    3,
+                    BusinessDayRule.FOLLOWING,
+                    "XX"
+            ))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unknown holiday calendar: XX");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.mumuca.moneytracker.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BloomFilter Tests")
+class BloomFilterTest {
+
+    @Nested
+    @DisplayName("mightContain tests")
+    class MightContainTests {
+        @Test
+        @DisplayName("should always contain the values that were put")
+        void shouldAlwaysContainTheValuesThatWerePut() {
+            // Arrange
+            BloomFilter sut = new BloomFilter(10_000, 0.01);
+
+            for (int i = 0; i < 10_000; i++) {
+                sut.put(TokenHashes.sha256("revoked-" + i));
+            }
+
+            // Act & Assert
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(sut.mightContain(TokenHashes.sha256("revoked-" + i))).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("should keep false positives near the configured rate")
+        void shouldKeepFalsePositivesNearTheConfiguredRate() {
+            // Arrange
+            BloomFilter sut = new BloomFilter(10_000, 0.01);
+
+            for (int i = 0; i < 10_000; i++) {
+                sut.put(TokenHashes.sha256("revoked-" + i));
+            }
+
+            // Act
+            int falsePositives = 0;
+
+            for (int i = 0; i < 100_000; i++) {
+                if (sut.mightContain(TokenHashes.sha256("valid-" + i))) {
+                    falsePositives++;
+                }
+            }
+
+            // Assert
+            assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        }
+
+        @Test
+        @DisplayName("should contain nothing when empty")
+        void shouldContainNothingWhenEmpty() {
+            // Arrange
+            BloomFilter sut = new BloomFilter(100, 0.01);
+
+            // Act & Assert
+            assertThat(sut.mightContain(TokenHashes.sha256("some-token"))).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("constructor tests")
+    class ConstructorTests {
+        @Test
+        @DisplayName("should size the filter from the expected insertions and false positive rate")
+        void shouldSizeTheFilterFromTheExpectedInsertionsAndFalsePositiveRate() {
+            // Act
+            BloomFilter sut = new BloomFilter(100_000, 0.01);
+
+            // Assert
+            assertThat(sut.getBitCount()).isBetween(958_464L, 958_592L);
+            assertThat(sut.getHashCount()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("should reject a false positive rate outside (0, 1)")
+        void shouldRejectAFalsePositiveRateOutside01() {
+            // Act & Assert
+            assertThatThrownBy(() -> new BloomFilter(100, 1.0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
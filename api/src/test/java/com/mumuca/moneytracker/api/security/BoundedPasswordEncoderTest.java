@@ -0,0 +1,139 @@
+package com.mumuca.moneytracker.api.security;
+
+import com.mumuca.moneytracker.api.auth.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+    };
+
+    private BoundedPasswordEncoder sut;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        sut.close();
+    }
+
+    @Nested
+    @DisplayName("encode and matches tests")
+    class EncodeAndMatchesTests {
+        @Test
+        @DisplayName("should delegate to the wrapped encoder and time the calls")
+        void shouldDelegateToTheWrappedEncoderAndTimeTheCalls() {
+            // Arrange
+            release.countDown();
+            sut = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+            // Act
+            String encoded = sut.encode("12345678");
+            boolean matches = sut.matches("12345678", encoded);
+
+            // Assert
+            assertThat(encoded).isEqualTo("hashed:12345678");
+            assertThat(matches).isTrue();
+            assertThat(meterRegistry.get("password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should reject calls when every thread is busy and the queue is full")
+        void shouldRejectCallsWhenEveryThreadIsBusyAndTheQueueIsFull() throws Exception {
+            // Arrange
+            sut = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> sut.encode("running"));
+            started.await(5, TimeUnit.SECONDS);
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> sut.encode("queued"));
+
+            while (meterRegistry.get("password.hash.queue").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            // Act & Assert
+            assertThatThrownBy(() -> sut.encode("rejected"))
+                    .isInstanceOf(PasswordHashingUnavailableException.class);
+            assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:running");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:queued");
+        }
+
+        @Test
+        @DisplayName("should give up on a call that stays queued longer than the maximum wait")
+        void shouldGiveUpOnACallThatStaysQueuedLongerThanTheMaximumWait() throws Exception {
+            // Arrange
+            sut = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofMillis(50), meterRegistry);
+
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> sut.encode("running"));
+            started.await(5, TimeUnit.SECONDS);
+
+            // Act & Assert
+            assertThatThrownBy(() -> sut.encode("queued"))
+                    .isInstanceOf(PasswordHashingUnavailableException.class);
+            assertThat(meterRegistry.get("password.hash.queue").gauge().value()).isZero();
+            assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:running");
+            assertThat(meterRegistry.get("password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should wait for a hash that already started even past the maximum wait")
+        void shouldWaitForAHashThatAlreadyStartedEvenPastTheMaximumWait() throws Exception {
+            // Arrange
+            sut = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofMillis(50), meterRegistry);
+
+            CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> sut.encode("slow"));
+            started.await(5, TimeUnit.SECONDS);
+            Thread.sleep(200);
+
+            // Act
+            release.countDown();
+
+            // Assert
+            assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:slow");
+            assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isZero();
+        }
+    }
+}
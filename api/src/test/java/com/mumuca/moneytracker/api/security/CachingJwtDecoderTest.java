@@ -0,0 +1,83 @@
+package com.mumuca.moneytracker.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CachingJwtDecoder Tests")
+class CachingJwtDecoderTest {
+
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+
+    private JwtDecoder delegateExpiringAt(Instant expiresAt) {
+        return token -> {
+            delegateCalls.incrementAndGet();
+
+            if (token.startsWith("invalid")) {
+                throw new BadJwtException("Invalid token");
+            }
+
+            return Jwt.withTokenValue(token)
+                    .header("alg", "RS256")
+                    .subject("user-id")
+                    .issuedAt(Instant.now().minusSeconds(10))
+                    .expiresAt(expiresAt)
+                    .build();
+        };
+    }
+
+    @Nested
+    @DisplayName("decode tests")
+    class DecodeTests {
+        @Test
+        @DisplayName("should verify a token only once while it is not expired")
+        void shouldVerifyATokenOnlyOnceWhileItIsNotExpired() {
+            // Arrange
+            CachingJwtDecoder sut = new CachingJwtDecoder(delegateExpiringAt(Instant.now().plusSeconds(3600)), 100);
+
+            // Act
+            Jwt first = sut.decode("token-a");
+            Jwt second = sut.decode("token-a");
+            sut.decode("token-b");
+
+            // Assert
+            assertThat(second).isSameAs(first);
+            assertThat(delegateCalls).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("should verify again a token that is already expired")
+        void shouldVerifyAgainATokenThatIsAlreadyExpired() {
+            // Arrange
+            CachingJwtDecoder sut = new CachingJwtDecoder(delegateExpiringAt(Instant.now().minusSeconds(1)), 100);
+
+            // Act
+            sut.decode("token-a");
+            sut.decode("token-a");
+
+            // Assert
+            assertThat(delegateCalls).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("should not cache tokens that fail verification")
+        void shouldNotCacheTokensThatFailVerification() {
+            // Arrange
+            CachingJwtDecoder sut = new CachingJwtDecoder(delegateExpiringAt(Instant.now().plusSeconds(3600)), 100);
+
+            // Act & Assert
+            assertThatThrownBy(() -> sut.decode("invalid-token")).isInstanceOf(BadJwtException.class);
+            assertThatThrownBy(() -> sut.decode("invalid-token")).isInstanceOf(BadJwtException.class);
+            assertThat(delegateCalls).hasValue(2);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.mumuca.moneytracker.api.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwkSetJwtDecoder Tests")
+class JwkSetJwtDecoderTest {
+
+    private static Map<String, JWK> keys;
+
+    @BeforeAll
+    static void generateKeys() throws JOSEException {
+        keys = Map.of(
+                "rsa", new RSAKeyGenerator(2048).keyID("rsa").generate(),
+                "ec", new ECKeyGenerator(Curve.P_256).keyID("ec").generate(),
+                "ed", new OctetKeyPairGenerator(Curve.Ed25519).keyID("ed").generate()
+        );
+    }
+
+    private static JwtKeys keysWithActive(String activeKid) {
+        return JwtKeys.of(new JWKSet(List.copyOf(keys.values())), activeKid);
+    }
+
+    private static String sign(JwtKeys jwtKeys, Instant expiresAt) {
+        var claims = JwtClaimsSet.builder()
+                .issuer("Money Tracker")
+                .subject("user-id")
+                .issuedAt(expiresAt.minusSeconds(3600))
+                .expiresAt(expiresAt)
+                .claim("roles", List.of("USER"))
+                .build();
+
+        return new JwkSetJwtEncoder(jwtKeys).encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+
+    @Nested
+    @DisplayName("decode tests")
+    class DecodeTests {
+        @ParameterizedTest
+        @ValueSource(strings = {"rsa", "ec", "ed"})
+        @DisplayName("should verify tokens signed with every supported key type")
+        void shouldVerifyTokensSignedWithEverySupportedKeyType(String kid) {
+            // Arrange
+            JwtKeys jwtKeys = keysWithActive(kid);
+            String token = sign(jwtKeys, Instant.now().plusSeconds(3600));
+
+            // Act
+            Jwt jwt = new JwkSetJwtDecoder(jwtKeys).decode(token);
+
+            // Assert
+            assertThat(jwt.getSubject()).isEqualTo("user-id");
+            assertThat(jwt.getClaimAsStringList("roles")).containsExactly("USER");
+            assertThat(jwt.getHeaders()).containsEntry("kid", kid);
+            assertThat(jwt.getHeaders()).containsEntry("alg", jwtKeys.getActiveAlgorithm().getName());
+        }
+
+        @Test
+        @DisplayName("should keep verifying tokens signed before the active key was rotated")
+        void shouldKeepVerifyingTokensSignedBeforeTheActiveKeyWasRotated() {
+            // Arrange
+            String token = sign(keysWithActive("rsa"), Instant.now().plusSeconds(3600));
+
+            // Act
+            Jwt jwt = new JwkSetJwtDecoder(keysWithActive("ed")).decode(token);
+
+            // Assert
+            assertThat(jwt.getHeaders()).containsEntry("kid", "rsa");
+        }
+
+        @Test
+        @DisplayName("should verify tokens without kid signed by the single rsa key")
+        void shouldVerifyTokensWithoutKidSignedByTheSingleRsaKey() throws JOSEException {
+            // Arrange
+            var rsaKey = new RSAKeyGenerator(2048).generate();
+            JwtKeys jwtKeys = JwtKeys.rsa((RSAPublicKey) rsaKey.toPublicKey(), (RSAPrivateKey) rsaKey.toPrivateKey());
+            String token = sign(jwtKeys, Instant.now().plusSeconds(3600));
+
+            // Act
+            Jwt jwt = new JwkSetJwtDecoder(jwtKeys).decode(token);
+
+            // Assert
+            assertThat(jwt.getHeaders()).doesNotContainKey("kid");
+            assertThat(jwt.getSubject()).isEqualTo("user-id");
+        }
+
+        @Test
+        @DisplayName("should reject tokens signed by a key that is not in the set")
+        void shouldRejectTokensSignedByAKeyThatIsNotInTheSet() throws JOSEException {
+            // Arrange
+            JWK foreignKey = new ECKeyGenerator(Curve.P_256).keyID("foreign").generate();
+            String token = sign(JwtKeys.of(new JWKSet(foreignKey), "foreign"), Instant.now().plusSeconds(3600));
+
+            // Act & Assert
+            assertThatThrownBy(() -> new JwkSetJwtDecoder(keysWithActive("ec")).decode(token))
+                    .isInstanceOf(BadJwtException.class)
+                    .hasMessageContaining("Unknown signing key");
+        }
+
+        @Test
+        @DisplayName("should reject tokens whose signature was forged with another key under a known kid")
+        void shouldRejectTokensWhoseSignatureWasForgedWithAnotherKeyUnderAKnownKid() throws JOSEException {
+            // Arrange
+            JWK forgedKey = new ECKeyGenerator(Curve.P_256).keyID("ec").generate();
+            String token = sign(JwtKeys.of(new JWKSet(forgedKey), "ec"), Instant.now().plusSeconds(3600));
+
+            // Act & Assert
+            assertThatThrownBy(() -> new JwkSetJwtDecoder(keysWithActive("ec")).decode(token))
+                    .isInstanceOf(BadJwtException.class)
+                    .hasMessageContaining("Invalid signature");
+        }
+
+        @Test
+        @DisplayName("should reject expired tokens")
+        void shouldRejectExpiredTokens() {
+            // Arrange
+            JwtKeys jwtKeys = keysWithActive("ed");
+            String token = sign(jwtKeys, Instant.now().minusSeconds(3600));
+
+            // Act & Assert
+            assertThatThrownBy(() -> new JwkSetJwtDecoder(jwtKeys).decode(token))
+                    .isInstanceOf(JwtValidationException.class);
+        }
+
+        @Test
+        @DisplayName("should reject malformed tokens")
+        void shouldRejectMalformedTokens() {
+            // Act & Assert
+            assertThatThrownBy(() -> new JwkSetJwtDecoder(keysWithActive("rsa")).decode("not-a-jwt"))
+                    .isInstanceOf(BadJwtException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("JwtKeys tests")
+    class JwtKeysTests {
+        @Test
+        @DisplayName("should refuse an active kid that is not in the set")
+        void shouldRefuseAnActiveKidThatIsNotInTheSet() {
+            // Act & Assert
+            assertThatThrownBy(() -> keysWithActive("missing"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("should refuse an active key without its private part")
+        void shouldRefuseAnActiveKeyWithoutItsPrivatePart() {
+            // Arrange
+            JWKSet publicSet = new JWKSet(List.copyOf(keys.values())).toPublicJWKSet();
+
+            // Act & Assert
+            assertThatThrownBy(() -> JwtKeys.of(publicSet, "ec"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
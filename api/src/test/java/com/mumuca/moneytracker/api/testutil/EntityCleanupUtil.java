@@ -0,0 +1,27 @@
+package com.mumuca.moneytracker.api.testutil;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+
+/**
+ * Deletes what tests that cannot run in a rolled-back transaction committed, such as the ones that watch
+ * after-commit callbacks. Everything is deleted through JDBC, so no entity listener or cache sees it.
+ */
+public class EntityCleanupUtil {
+
+    public static void deleteUsers(JdbcTemplate jdbcTemplate, Collection<String> userIds) {
+        for (String userId : userIds) {
+            jdbcTemplate.update("""
+                    delete from transfers
+                    where recurrence_id in (select id from recurrences where user_id = ?)
+                       or source_account_id in (select id from accounts where user_id = ?)
+                       or destination_account_id in (select id from accounts where user_id = ?)
+                    """, userId, userId, userId);
+            jdbcTemplate.update("delete from recurrences where user_id = ?", userId);
+            jdbcTemplate.update("delete from accounts where user_id = ?", userId);
+            jdbcTemplate.update("delete from users_roles where user_id = ?", userId);
+            jdbcTemplate.update("delete from users where id = ?", userId);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.mumuca.moneytracker.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.mumuca.moneytracker.api.util.HttpUtils.buildConditionalResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HttpUtils Tests")
+class HttpUtilsTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private String load() {
+        loads.incrementAndGet();
+        return "body";
+    }
+
+    private static ServletWebRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/accounts/active");
+
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    @Nested
+    @DisplayName("buildConditionalResponse tests")
+    class BuildConditionalResponseTests {
+        @Test
+        @DisplayName("should send the body with a weak ETag when the client holds no version")
+        void shouldSendTheBodyWithAWeakETagWhenTheClientHoldsNoVersion() {
+            // Act
+            ResponseEntity<String> response = buildConditionalResponse(get(null), Optional.of("1a"), HttpUtilsTest.this::load);
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isEqualTo("body");
+            assertThat(response.getHeaders().getETag()).isEqualTo("W/\"1a\"");
+            assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("should answer not modified without loading the body when the client holds the current version")
+        void shouldAnswerNotModifiedWithoutLoadingTheBodyWhenTheClientHoldsTheCurrentVersion() {
+            // Act
+            ResponseEntity<String> response = buildConditionalResponse(get("\"1a\""), Optional.of("1a"), HttpUtilsTest.this::load);
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getBody()).isNull();
+            assertThat(response.getHeaders().getETag()).isEqualTo("W/\"1a\"");
+            assertThat(loads).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("should send the body again when the client holds an older version")
+        void shouldSendTheBodyAgainWhenTheClientHoldsAnOlderVersion() {
+            // Act
+            ResponseEntity<String> response = buildConditionalResponse(get("\"1a\""), Optional.of("2b"), HttpUtilsTest.this::load);
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getETag()).isEqualTo("W/\"2b\"");
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("should tell apart responses of the same version that depend on another value")
+        void shouldTellApartResponsesOfTheSameVersionThatDependOnAnotherValue() {
+            // Arrange
+            LocalDate today = LocalDate.of(2025, 1, 10);
+
+            String eTagToday = buildConditionalResponse(get(null), Optional.of("1a"), HttpUtilsTest.this::load, today)
+                    .getHeaders()
+                    .getETag();
+
+            // Act
+            ResponseEntity<String> response = buildConditionalResponse(
+                    get(eTagToday),
+                    Optional.of("1a"),
+                    HttpUtilsTest.this::load,
+                    today.plusDays(1)
+            );
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getETag()).isNotEqualTo(eTagToday);
+        }
+
+        @Test
+        @DisplayName("should always send the body when there is no version")
+        void shouldAlwaysSendTheBodyWhenThereIsNoVersion() {
+            // Act
+            ResponseEntity<String> response = buildConditionalResponse(get("*"), Optional.empty(), HttpUtilsTest.this::load);
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getETag()).isNull();
+            assertThat(loads).hasValue(1);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.mumuca.moneytracker.api.account.service.impl;
+
+import com.mumuca.moneytracker.api.account.model.Account;
+import com.mumuca.moneytracker.api.account.model.Transfer;
+import com.mumuca.moneytracker.api.providers.CurrencyProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TransferServiceImpl#handleCurrencyConversions} for each combination of account currencies against
+ * a BRL transfer. Rates come from a fixed in-memory table, so this measures the service's own work and not
+ * the rate lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyConversionBenchmark {
+
+    public enum Scenario {
+        SAME_CURRENCY("BRL", "BRL"),
+        DESTINATION_CONVERTED("BRL", "USD"),
+        SOURCE_CONVERTED("USD", "BRL"),
+        BOTH_CONVERTED("USD", "EUR");
+
+        private final String sourceCurrency;
+        private final String destinationCurrency;
+
+        Scenario(String sourceCurrency, String destinationCurrency) {
+            this.sourceCurrency = sourceCurrency;
+            this.destinationCurrency = destinationCurrency;
+        }
+    }
+
+    @Param
+    private Scenario scenario;
+
+    private TransferServiceImpl transferService;
+    private Transfer transfer;
+    private Account sourceAccount;
+    private Account destinationAccount;
+
+    @Setup
+    public void setUp() {
+        CurrencyProvider fixedRates = new CurrencyProvider() {
+            @Override
+            public BigDecimal convertCurrency(BigDecimal amount, String fromCurrency, String toCurrency) {
+                return amount.multiply(rate(fromCurrency, toCurrency)).setScale(2, RoundingMode.HALF_EVEN);
+            }
+
+            @Override
+            public BigDecimal[] convertCurrencies(BigDecimal[] amounts, String[] fromCurrencies, String toCurrency) {
+                BigDecimal[] converted = new BigDecimal[amounts.length];
+
+                for (int i = 0; i < amounts.length; i++) {
+                    converted[i] = convertCurrency(amounts[i], fromCurrencies[i], toCurrency);
+                }
+
+                return converted;
+            }
+
+            private BigDecimal rate(String fromCurrency, String toCurrency) {
+                return fromCurrency.equals(toCurrency) ? BigDecimal.ONE : new BigDecimal("0.1834");
+            }
+        };
+
+        transferService = new TransferServiceImpl(null, null, null, fixedRates, null, null, new SimpleMeterRegistry());
+
+        sourceAccount = TransferFixtures.account("Checking", scenario.sourceCurrency);
+        destinationAccount = TransferFixtures.account("Savings", scenario.destinationCurrency);
+        transfer = TransferFixtures.transfer(sourceAccount, destinationAccount, "BRL");
+    }
+
+    @Benchmark
+    public Account handleCurrencyConversions() {
+        transferService.handleCurrencyConversions(transfer, sourceAccount, destinationAccount);
+        return destinationAccount;
+    }
+}
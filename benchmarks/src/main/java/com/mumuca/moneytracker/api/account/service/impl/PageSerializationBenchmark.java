@@ -0,0 +1,106 @@
+package com.mumuca.moneytracker.api.account.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mumuca.moneytracker.api.account.dto.RecurrenceDTO;
+import com.mumuca.moneytracker.api.account.dto.TransferDTO;
+import com.mumuca.moneytracker.api.account.json.TransferJsonModule;
+import com.mumuca.moneytracker.api.account.model.Account;
+import com.mumuca.moneytracker.api.account.model.Recurrence;
+import com.mumuca.moneytracker.api.account.model.Transfer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Jackson serialization of the page returned by {@code GET /v1/transfers}, built the same way
+ * {@link TransferServiceImpl#listTransfers} builds it. The mapper is configured like the one Spring Boot
+ * registers for the web layer, with the bean serializers ({@code bean}) or with {@link TransferJsonModule}
+ * ({@code prebuilt}). {@code serializeCompressedPage} adds the gzip pass the server runs on large responses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"bean", "prebuilt"})
+    private String serializers;
+
+    private ObjectWriter writer;
+    private Page<RecurrenceDTO<TransferDTO>> page;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        if (serializers.equals("prebuilt")) {
+            builder.modulesToInstall(new TransferJsonModule());
+        }
+
+        writer = builder.build().writer();
+
+        Account sourceAccount = TransferFixtures.account("Checking", "BRL");
+        Account destinationAccount = TransferFixtures.account("Savings", "BRL");
+        List<Transfer> transfers = TransferFixtures.repeatedTransfers(sourceAccount, destinationAccount, "BRL", pageSize);
+
+        List<RecurrenceDTO<TransferDTO>> content = transfers
+                .stream()
+                .map(transfer -> {
+                    Recurrence recurrence = transfer.getRecurrence();
+
+                    return new RecurrenceDTO<>(
+                            recurrence.getId(),
+                            recurrence.getInterval(),
+                            recurrence.getFirstOccurrence(),
+                            recurrence.getTransactionType(),
+                            recurrence.getRecurrenceType(),
+                            List.of(TransferServiceImpl.toTransferDTO(transfer, transfers.size()))
+                    );
+                })
+                .toList();
+
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), pageSize * 5L);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeCompressedPage() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            writer.writeValue(gzip, page);
+        }
+
+        return bytes.toByteArray();
+    }
+}
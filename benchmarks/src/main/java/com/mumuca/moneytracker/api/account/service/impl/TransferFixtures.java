@@ -0,0 +1,80 @@
+package com.mumuca.moneytracker.api.account.service.impl;
+
+import com.mumuca.moneytracker.api.account.model.Account;
+import com.mumuca.moneytracker.api.account.model.AccountType;
+import com.mumuca.moneytracker.api.account.model.Recurrence;
+import com.mumuca.moneytracker.api.account.model.RecurrenceInterval;
+import com.mumuca.moneytracker.api.account.model.RecurrenceType;
+import com.mumuca.moneytracker.api.account.model.TransactionType;
+import com.mumuca.moneytracker.api.account.model.Transfer;
+import com.mumuca.moneytracker.api.model.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Detached entities shaped like the ones the transfer endpoints load, for benchmarks that exercise
+ * {@link TransferServiceImpl} without a database.
+ */
+final class TransferFixtures {
+
+    private TransferFixtures() {
+    }
+
+    static Account account(String name, String currency) {
+        return Account.builder()
+                .id(UUID.randomUUID().toString())
+                .name(name)
+                .color("#1E88E5")
+                .icon("wallet")
+                .type(AccountType.CHECKING_ACCOUNT)
+                .balance(new Money(new BigDecimal("15230.45"), currency))
+                .build();
+    }
+
+    static Transfer transfer(Account sourceAccount, Account destinationAccount, String currency) {
+        return repeatedTransfers(sourceAccount, destinationAccount, currency, 1).getFirst();
+    }
+
+    /**
+     * Monthly installments of a single recurrence, with the first one paid.
+     */
+    static List<Transfer> repeatedTransfers(
+            Account sourceAccount,
+            Account destinationAccount,
+            String currency,
+            int installments
+    ) {
+        LocalDate firstOccurrence = LocalDate.of(2025, 1, 10);
+
+        Recurrence recurrence = Recurrence.builder()
+                .id(UUID.randomUUID().toString())
+                .interval(RecurrenceInterval.MONTHLY)
+                .firstOccurrence(firstOccurrence)
+                .transactionType(TransactionType.TRANSFER)
+                .recurrenceType(installments == 1 ? RecurrenceType.UNIQUE : RecurrenceType.REPEATED)
+                .build();
+
+        List<Transfer> transfers = new ArrayList<>(installments);
+
+        for (int i = 0; i < installments; i++) {
+            transfers.add(Transfer.builder()
+                    .id(UUID.randomUUID().toString())
+                    .title("Savings")
+                    .description("Monthly transfer to the savings account")
+                    .sourceAccount(sourceAccount)
+                    .destinationAccount(destinationAccount)
+                    .value(new Money(new BigDecimal("350.00"), currency))
+                    .billingDate(firstOccurrence.plusMonths(i))
+                    .installmentIndex(i + 1)
+                    .paid(i == 0 ? firstOccurrence : null)
+                    .recurrence(recurrence)
+                    .build());
+        }
+
+        return transfers;
+    }
+}
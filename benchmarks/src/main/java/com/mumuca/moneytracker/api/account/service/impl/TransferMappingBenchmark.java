@@ -0,0 +1,45 @@
+package com.mumuca.moneytracker.api.account.service.impl;
+
+import com.mumuca.moneytracker.api.account.dto.TransferDTO;
+import com.mumuca.moneytracker.api.account.model.Transfer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TransferServiceImpl#toTransferDTO}, the mapping every transfer endpoint runs once per returned
+ * transfer, including both account DTOs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransferMappingBenchmark {
+
+    private Transfer transfer;
+
+    @Setup
+    public void setUp() {
+        transfer = TransferFixtures.transfer(
+                TransferFixtures.account("Checking", "BRL"),
+                TransferFixtures.account("Savings", "BRL"),
+                "BRL"
+        );
+    }
+
+    @Benchmark
+    public TransferDTO toTransferDTO() {
+        return TransferServiceImpl.toTransferDTO(transfer, 12);
+    }
+}
@@ -0,0 +1,65 @@
+package com.mumuca.moneytracker.benchmarks;
+
+import com.mumuca.moneytracker.api.account.model.RecurrenceInterval;
+import com.mumuca.moneytracker.api.providers.BusinessDayRule;
+import com.mumuca.moneytracker.api.providers.HolidayCalendar;
+import com.mumuca.moneytracker.api.providers.impl.DateProviderImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DateProviderImpl#generateDates} for every {@link RecurrenceInterval}, as called when a repeated
+ * transfer is registered. The start date is the 31st so month-based intervals hit the end-of-month clamp.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerateDatesBenchmark {
+
+    @Param({"DAILY", "WEEKLY", "BIWEEKLY", "MONTHLY", "BIMONTHLY", "TRIMONTHLY", "SIXMONTHLY", "YEARLY"})
+    private RecurrenceInterval interval;
+
+    @Param({"12", "120"})
+    private int occurrences;
+
+    private final LocalDate startDate = LocalDate.of(2025, 1, 31);
+
+    private DateProviderImpl dateProvider;
+
+    @Setup
+    public void setUp() {
+        dateProvider = new DateProviderImpl(calendarId -> HolidayCalendar.WEEKENDS_ONLY);
+    }
+
+    @Benchmark
+    public List<LocalDate> generateDates() {
+        return dateProvider.generateDates(startDate, interval, occurrences);
+    }
+
+    @Benchmark
+    public List<LocalDate> generateBusinessDates() {
+        return dateProvider.generateDates(
+                startDate,
+                interval,
+                occurrences,
+                BusinessDayRule.MODIFIED_FOLLOWING,
+                HolidayCalendar.WEEKENDS_ONLY.getId()
+        );
+    }
+}
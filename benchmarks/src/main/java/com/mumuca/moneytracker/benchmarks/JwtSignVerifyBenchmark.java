@@ -0,0 +1,87 @@
+package com.mumuca.moneytracker.benchmarks;
+
+import com.mumuca.moneytracker.api.security.JwkSetJwtDecoder;
+import com.mumuca.moneytracker.api.security.JwkSetJwtEncoder;
+import com.mumuca.moneytracker.api.security.JwtKeys;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sign and verify throughput of the access token for each supported signing algorithm.
+ *
+ * <p>Verification runs on every authenticated request that misses the token cache, so it is the
+ * number that bounds requests per core; signing only happens on sign-in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSignVerifyBenchmark {
+
+    @Param({"RS256", "ES256", "EdDSA"})
+    private String algorithm;
+
+    private JwkSetJwtEncoder encoder;
+    private JwkSetJwtDecoder decoder;
+    private JwtEncoderParameters parameters;
+    private String token;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        JWK key = switch (algorithm) {
+            case "RS256" -> new RSAKeyGenerator(2048).keyID(algorithm).generate();
+            case "ES256" -> new ECKeyGenerator(Curve.P_256).keyID(algorithm).generate();
+            case "EdDSA" -> new OctetKeyPairGenerator(Curve.Ed25519).keyID(algorithm).generate();
+            default -> throw new IllegalArgumentException(algorithm);
+        };
+
+        JwtKeys jwtKeys = JwtKeys.of(new JWKSet(key), algorithm);
+        Instant now = Instant.now();
+
+        encoder = new JwkSetJwtEncoder(jwtKeys);
+        decoder = new JwkSetJwtDecoder(jwtKeys);
+        parameters = JwtEncoderParameters.from(JwtClaimsSet.builder()
+                .issuer("Money Tracker")
+                .subject("0f0c4f3e-8e9a-4b43-9d8e-3c1d2f5a6b7c")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(604800))
+                .claim("roles", List.of("USER"))
+                .build());
+        token = encoder.encode(parameters).getTokenValue();
+    }
+
+    @Benchmark
+    public Jwt sign() {
+        return encoder.encode(parameters);
+    }
+
+    @Benchmark
+    public Jwt verify() {
+        return decoder.decode(token);
+    }
+}
@@ -0,0 +1,115 @@
+package com.mumuca.moneytracker.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mumuca.moneytracker.api.auth.service.TokenRevocationService;
+import com.mumuca.moneytracker.api.filter.JwtValidationFilter;
+import com.mumuca.moneytracker.api.security.CachingJwtDecoder;
+import com.mumuca.moneytracker.api.security.JwkSetJwtDecoder;
+import com.mumuca.moneytracker.api.security.JwkSetJwtEncoder;
+import com.mumuca.moneytracker.api.security.JwtKeys;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link JwtValidationFilter} for an authenticated request whose token is already in the
+ * verified-token cache, which is the steady state. Browsers send every cookie of the domain, so the
+ * {@code jwt} cookie is placed last among {@code cookies}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationFilterBenchmark {
+
+    @Param({"1", "8"})
+    private int cookies;
+
+    private JwtValidationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        JwtKeys jwtKeys = JwtKeys.of(new JWKSet(new RSAKeyGenerator(2048).keyID("rsa").generate()), "rsa");
+        Instant now = Instant.now();
+
+        String token = new JwkSetJwtEncoder(jwtKeys).encode(JwtEncoderParameters.from(JwtClaimsSet.builder()
+                .issuer("Money Tracker")
+                .subject("0f0c4f3e-8e9a-4b43-9d8e-3c1d2f5a6b7c")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(604800))
+                .claim("roles", List.of("USER"))
+                .build())).getTokenValue();
+
+        TokenRevocationService notRevoked = new TokenRevocationService() {
+            @Override
+            public void revoke(String tokenValue, Instant expiresAt) {
+            }
+
+            @Override
+            public boolean isRevoked(String tokenValue) {
+                return false;
+            }
+        };
+
+        filter = new JwtValidationFilter(
+                new CachingJwtDecoder(new JwkSetJwtDecoder(jwtKeys), 10_000),
+                notRevoked,
+                new ObjectMapper(),
+                new SimpleMeterRegistry()
+        );
+
+        Cookie[] requestCookies = new Cookie[cookies];
+
+        for (int i = 0; i < cookies - 1; i++) {
+            requestCookies[i] = new Cookie("pref_" + i, "value-" + i);
+        }
+
+        requestCookies[cookies - 1] = new Cookie("jwt", token);
+
+        request = new MockHttpServletRequest("GET", "/v1/me");
+        request.setCookies(requestCookies);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void authenticate(Blackhole blackhole) throws ServletException, IOException {
+        FilterChain chain = (req, res) -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+
+        // Cleared here rather than in a per-invocation tear-down, whose timestamping would dwarf the filter.
+        try {
+            filter.doFilter(request, response, chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
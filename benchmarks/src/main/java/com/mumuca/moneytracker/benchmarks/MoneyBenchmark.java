@@ -0,0 +1,54 @@
+package com.mumuca.moneytracker.benchmarks;
+
+import com.mumuca.moneytracker.api.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Money#add(Money)} and {@link Money#subtract(Money)} on balances with cents. The operand currency
+ * is either spelled like the balance's or in lower case, since the currency check ignores case.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"BRL", "brl"})
+    private String operandCurrency;
+
+    private Money balance;
+    private Money operand;
+
+    @Setup
+    public void setUp() {
+        balance = new Money(new BigDecimal("15230.45"), "BRL");
+        operand = new Money(new BigDecimal("129.90"), operandCurrency);
+    }
+
+    @Benchmark
+    public Money add() {
+        balance.add(operand);
+        return balance;
+    }
+
+    @Benchmark
+    public Money subtract() {
+        balance.subtract(operand);
+        return balance;
+    }
+}
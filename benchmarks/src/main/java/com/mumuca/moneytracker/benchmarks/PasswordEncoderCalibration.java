@@ -0,0 +1,92 @@
+package com.mumuca.moneytracker.benchmarks;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * Finds, on the current host, the strongest BCrypt strength and Argon2 iteration count whose
+ * verification stays within a target latency:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.mumuca.moneytracker.benchmarks.PasswordEncoderCalibration 250
+ * </pre>
+ *
+ * The results map to {@code bcrypt.salt} and {@code password.encoding.argon2.iterations}.
+ */
+public class PasswordEncoderCalibration {
+
+    private static final String PASSWORD = "correct horse battery staple";
+    private static final int SAMPLES = 5;
+
+    public static void main(String[] args) {
+        double targetMillis = args.length > 0 ? Double.parseDouble(args[0]) : 250;
+        int argon2MemoryKib = args.length > 1 ? Integer.parseInt(args[1]) : 19456;
+
+        int bcryptStrength = 4;
+
+        for (int strength = 4; strength <= 31; strength++) {
+            double millis = measure("bcrypt:" + strength);
+            System.out.printf("bcrypt strength %d: %.1f ms%n", strength, millis);
+
+            if (millis > targetMillis) {
+                break;
+            }
+
+            bcryptStrength = strength;
+        }
+
+        int argon2Iterations = 1;
+
+        for (int iterations = 1; iterations <= 64; iterations++) {
+            double millis = measure("argon2:" + argon2MemoryKib + ":" + iterations);
+            System.out.printf("argon2 %d KiB, %d iterations: %.1f ms%n", argon2MemoryKib, iterations, millis);
+
+            if (millis > targetMillis) {
+                break;
+            }
+
+            argon2Iterations = iterations;
+        }
+
+        System.out.printf("%nTarget %.0f ms per hash:%n", targetMillis);
+        System.out.printf("  bcrypt.salt: %d%n", bcryptStrength);
+        System.out.printf("  password.encoding.argon2.memory-kib: %d%n", argon2MemoryKib);
+        System.out.printf("  password.encoding.argon2.iterations: %d%n", argon2Iterations);
+    }
+
+    /**
+     * Builds an encoder from {@code bcrypt:<strength>} or {@code argon2:<memoryKib>:<iterations>}.
+     */
+    static PasswordEncoder encoderFor(String profile) {
+        String[] parts = profile.split(":");
+
+        return switch (parts[0]) {
+            case "bcrypt" -> new BCryptPasswordEncoder(Integer.parseInt(parts[1]));
+            case "argon2" -> new Argon2PasswordEncoder(16, 32, 1, Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+            default -> throw new IllegalArgumentException("Unknown encoder profile: " + profile);
+        };
+    }
+
+    /**
+     * Median verification time, after one warm-up call.
+     */
+    private static double measure(String profile) {
+        PasswordEncoder encoder = encoderFor(profile);
+        String encodedPassword = encoder.encode(PASSWORD);
+        encoder.matches(PASSWORD, encodedPassword);
+
+        long[] samples = new long[SAMPLES];
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches(PASSWORD, encodedPassword);
+            samples[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.mumuca.moneytracker.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code --name=value} command line options. Every option has a default, so both tools run against the
+ * docker-compose dev stack without any argument.
+ */
+final class Arguments {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    Arguments(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+    }
+
+    String getString(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    int getInt(String name, int defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    long getLong(String name, long defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
+    double getDouble(String name, double defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    boolean getBoolean(String name, boolean defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Accepts ISO-8601 ({@code PT30S}) or a number followed by {@code ms}, {@code s} or {@code m}.
+     */
+    Duration getDuration(String name, Duration defaultValue) {
+        String value = values.get(name);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        if (value.startsWith("PT")) {
+            return Duration.parse(value);
+        }
+
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+
+        throw new IllegalArgumentException("Invalid duration for --" + name + ": " + value);
+    }
+}
@@ -0,0 +1,383 @@
+package com.mumuca.moneytracker.loadtest;
+
+import com.mumuca.moneytracker.api.account.model.AccountType;
+import com.mumuca.moneytracker.api.account.model.RecurrenceInterval;
+import com.mumuca.moneytracker.api.account.model.RecurrenceType;
+import com.mumuca.moneytracker.api.account.model.TransactionType;
+import com.mumuca.moneytracker.api.auth.model.Gender;
+import com.mumuca.moneytracker.api.providers.DateProvider;
+import com.mumuca.moneytracker.api.providers.HolidayCalendar;
+import com.mumuca.moneytracker.api.providers.impl.DateProviderImpl;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Seeds a synthetic population: {@code --users} users with {@code --accounts-per-user} accounts each and
+ * {@code --recurrences-per-user} transfer recurrences spread over the past year, bulk-loaded with
+ * {@code COPY ... FROM STDIN}.
+ * <p>
+ * The schema is the one Hibernate creates, so start the API once against the target database before
+ * seeding. Users are {@code loadtest-<n>@moneytracker.test}, all sharing {@code --password}, which is what
+ * {@link LoadDriver} signs in with. {@code --reset=true} deletes a previous population first.
+ */
+public final class DatasetSeeder {
+
+    static final String EMAIL_PATTERN = "loadtest-%d@moneytracker.test";
+    static final String DEFAULT_PASSWORD = "LoadTest@123";
+
+    private static final String DEFAULT_INTERVAL_MIX =
+            "MONTHLY:50,WEEKLY:12,BIWEEKLY:10,YEARLY:8,BIMONTHLY:6,TRIMONTHLY:6,SIXMONTHLY:5,DAILY:3";
+
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Bruno", "Carla", "Diego", "Elisa", "Felipe", "Gabriela", "Heitor", "Isabela", "João",
+            "Larissa", "Marcos", "Natália", "Otávio", "Paula", "Rafael", "Sofia", "Tiago", "Valéria", "Yuri"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Almeida", "Barbosa", "Cardoso", "Costa", "Ferreira", "Gomes", "Lima", "Martins", "Oliveira",
+            "Pereira", "Ribeiro", "Rocha", "Santos", "Silva", "Souza"
+    };
+
+    private static final String[] ACCOUNT_NAMES = {
+            "Checking", "Savings", "Wallet", "Brokerage", "Emergency Fund", "Travel", "Credit Union", "Pension"
+    };
+
+    private static final String[] COLORS = {"#1E88E5", "#43A047", "#F4511E", "#8E24AA", "#FDD835", "#00ACC1"};
+
+    private static final String[] ICONS = {"bank", "wallet", "piggy-bank", "chart", "briefcase", "plane"};
+
+    private static final String[] TRANSFER_TITLES = {
+            "Savings", "Rent reserve", "Investment contribution", "Emergency fund", "Travel fund",
+            "Allowance", "Credit card reserve", "Tax reserve"
+    };
+
+    /**
+     * How many installments a repeated recurrence gets, so every interval spans roughly a year.
+     */
+    private static final Map<RecurrenceInterval, Integer> INSTALLMENTS = new EnumMap<>(Map.of(
+            RecurrenceInterval.DAILY, 30,
+            RecurrenceInterval.WEEKLY, 26,
+            RecurrenceInterval.BIWEEKLY, 26,
+            RecurrenceInterval.MONTHLY, 12,
+            RecurrenceInterval.BIMONTHLY, 6,
+            RecurrenceInterval.TRIMONTHLY, 4,
+            RecurrenceInterval.SIXMONTHLY, 4,
+            RecurrenceInterval.YEARLY, 3
+    ));
+
+    private static final int USERS_PER_BATCH = 1_000;
+
+    private final int users;
+    private final int accountsPerUser;
+    private final int recurrencesPerUser;
+    private final double uniqueShare;
+    private final String currency;
+    private final WeightedChoice<RecurrenceInterval> intervalMix;
+    private final SplittableRandom random;
+    private final DateProvider dateProvider = new DateProviderImpl(calendarId -> HolidayCalendar.WEEKENDS_ONLY);
+    private final LocalDate today = LocalDate.now();
+    private final String createdDate = LocalDateTime.now().toString();
+
+    private final String passwordHash;
+    private String userRoleId;
+
+    private long userRows;
+    private long accountRows;
+    private long recurrenceRows;
+    private long transferRows;
+
+    private DatasetSeeder(Arguments arguments) {
+        this.users = arguments.getInt("users", 1_000);
+        this.accountsPerUser = arguments.getInt("accounts-per-user", 3);
+        this.recurrencesPerUser = arguments.getInt("recurrences-per-user", 20);
+        this.uniqueShare = arguments.getDouble("unique-share", 0.3);
+        this.currency = arguments.getString("currency", "BRL");
+        this.intervalMix = WeightedChoice.parse(
+                arguments.getString("interval-mix", DEFAULT_INTERVAL_MIX),
+                RecurrenceInterval::valueOf
+        );
+        this.random = new SplittableRandom(arguments.getLong("seed", 42));
+
+        if (accountsPerUser < 2) {
+            throw new IllegalArgumentException("--accounts-per-user must be at least 2, transfers need two accounts.");
+        }
+
+        // Same cost as the API's encoder, otherwise every first sign-in would trigger a rehash.
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(arguments.getInt("bcrypt-strength", 13));
+        this.passwordHash = "{bcrypt}" + bcrypt.encode(arguments.getString("password", DEFAULT_PASSWORD));
+    }
+
+    public static void main(String[] args) throws SQLException, IOException {
+        Arguments arguments = new Arguments(args);
+        DatasetSeeder seeder = new DatasetSeeder(arguments);
+
+        try (Connection connection = DriverManager.getConnection(
+                arguments.getString("jdbc-url", "jdbc:postgresql://localhost:5432/devdb"),
+                arguments.getString("db-user", "devuser"),
+                arguments.getString("db-password", "devpassword")
+        )) {
+            connection.setAutoCommit(false);
+
+            if (arguments.getBoolean("reset", false)) {
+                reset(connection);
+            }
+
+            seeder.seed(connection);
+        }
+    }
+
+    private void seed(Connection connection) throws SQLException, IOException {
+        long start = System.nanoTime();
+
+        userRoleId = findOrCreateUserRole(connection);
+
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+        for (int firstUser = 0; firstUser < users; firstUser += USERS_PER_BATCH) {
+            Batch batch = new Batch();
+
+            for (int n = firstUser; n < Math.min(users, firstUser + USERS_PER_BATCH); n++) {
+                addUser(batch, n);
+            }
+
+            batch.copy(copyManager);
+            connection.commit();
+
+            System.out.printf("Seeded %d/%d users%n", Math.min(users, firstUser + USERS_PER_BATCH), users);
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE users, users_roles, accounts, recurrences, transfers");
+        }
+
+        connection.commit();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long rows = userRows * 2 + accountRows + recurrenceRows + transferRows;
+
+        System.out.printf(
+                "Inserted %d users, %d accounts, %d recurrences and %d transfers in %.1fs (%.0f rows/s)%n",
+                userRows, accountRows, recurrenceRows, transferRows, seconds, rows / seconds
+        );
+    }
+
+    private void addUser(Batch batch, int n) {
+        String userId = UUID.randomUUID().toString();
+        Gender gender = random.nextBoolean() ? Gender.FEMALE : Gender.MALE;
+        LocalDate birthDate = LocalDate.of(1960, 1, 1).plusDays(random.nextInt(45 * 365));
+
+        batch.users.row(
+                userId,
+                createdDate,
+                birthDate.toString(),
+                EMAIL_PATTERN.formatted(n),
+                pick(FIRST_NAMES),
+                gender.name(),
+                pick(LAST_NAMES),
+                passwordHash
+        );
+        batch.usersRoles.row(userId, userRoleId);
+        userRows++;
+
+        List<String> accountIds = new ArrayList<>(accountsPerUser);
+
+        for (int i = 0; i < accountsPerUser; i++) {
+            String accountId = UUID.randomUUID().toString();
+            AccountType type = i == 0 ? AccountType.CHECKING_ACCOUNT : pick(AccountType.values());
+
+            batch.accounts.row(
+                    accountId,
+                    createdDate,
+                    // Roughly one account in twenty is archived.
+                    String.valueOf(i > 1 && random.nextInt(20) == 0),
+                    money(100, 50_000),
+                    currency,
+                    pick(COLORS),
+                    pick(ICONS),
+                    ACCOUNT_NAMES[i % ACCOUNT_NAMES.length],
+                    type.name(),
+                    userId
+            );
+            accountIds.add(accountId);
+            accountRows++;
+        }
+
+        for (int i = 0; i < recurrencesPerUser; i++) {
+            addRecurrence(batch, userId, accountIds);
+        }
+    }
+
+    private void addRecurrence(Batch batch, String userId, List<String> accountIds) {
+        String recurrenceId = UUID.randomUUID().toString();
+        boolean unique = random.nextDouble() < uniqueShare;
+
+        // The API stores unique transfers as a one-off MONTHLY recurrence.
+        RecurrenceInterval interval = unique ? RecurrenceInterval.MONTHLY : intervalMix.next(random);
+        LocalDate firstOccurrence = today.minusDays(random.nextInt(365));
+
+        batch.recurrences.row(
+                recurrenceId,
+                createdDate,
+                firstOccurrence.toString(),
+                interval.name(),
+                (unique ? RecurrenceType.UNIQUE : RecurrenceType.REPEATED).name(),
+                TransactionType.TRANSFER.name(),
+                userId
+        );
+        recurrenceRows++;
+
+        int sourceIndex = random.nextInt(accountIds.size());
+        int destinationIndex = (sourceIndex + 1 + random.nextInt(accountIds.size() - 1)) % accountIds.size();
+
+        String title = pick(TRANSFER_TITLES);
+        String amount = money(10, 2_000);
+        int installments = unique ? 1 : INSTALLMENTS.get(interval);
+
+        List<LocalDate> billingDates = dateProvider.generateDates(firstOccurrence, interval, installments);
+
+        for (int i = 0; i < billingDates.size(); i++) {
+            LocalDate billingDate = billingDates.get(i);
+
+            // Past installments are mostly paid, on the billing date.
+            boolean paid = !billingDate.isAfter(today) && random.nextInt(10) != 0;
+
+            batch.transfers.row(
+                    UUID.randomUUID().toString(),
+                    createdDate,
+                    billingDate.toString(),
+                    "",
+                    String.valueOf(i + 1),
+                    paid ? billingDate.toString() : null,
+                    title,
+                    amount,
+                    currency,
+                    accountIds.get(destinationIndex),
+                    recurrenceId,
+                    accountIds.get(sourceIndex)
+            );
+            transferRows++;
+        }
+    }
+
+    private String findOrCreateUserRole(Connection connection) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement("SELECT id FROM roles WHERE authority = 'USER'");
+             ResultSet resultSet = select.executeQuery()) {
+            if (resultSet.next()) {
+                return resultSet.getString(1);
+            }
+        }
+
+        String roleId = UUID.randomUUID().toString();
+
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO roles (id, authority) VALUES (?, 'USER')"
+        )) {
+            insert.setString(1, roleId);
+            insert.executeUpdate();
+        }
+
+        return roleId;
+    }
+
+    private static void reset(Connection connection) throws SQLException {
+        String loadTestUsers = "SELECT id FROM users WHERE email LIKE 'loadtest-%@moneytracker.test'";
+
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM transfers WHERE recurrence_id IN "
+                    + "(SELECT id FROM recurrences WHERE user_id IN (" + loadTestUsers + "))");
+            statement.executeUpdate("DELETE FROM recurrences WHERE user_id IN (" + loadTestUsers + ")");
+            statement.executeUpdate("DELETE FROM accounts WHERE user_id IN (" + loadTestUsers + ")");
+            statement.executeUpdate("DELETE FROM users_roles WHERE user_id IN (" + loadTestUsers + ")");
+            int deleted = statement.executeUpdate("DELETE FROM users WHERE email LIKE 'loadtest-%@moneytracker.test'");
+
+            System.out.printf("Removed %d previously seeded users%n", deleted);
+        }
+
+        connection.commit();
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private String money(int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextLong((max - min) * 100L), 2).toPlainString();
+    }
+
+    /**
+     * One CSV buffer per table, flushed with a {@code COPY} each. Tables are copied in foreign key order.
+     */
+    private static final class Batch {
+        final CsvTable users = new CsvTable(
+                "users (id, created_date, birth_date, email, first_name, gender, last_name, password)"
+        );
+        final CsvTable usersRoles = new CsvTable("users_roles (user_id, role_id)");
+        final CsvTable accounts = new CsvTable(
+                "accounts (id, created_date, is_archived, amount, currency, color, icon, name, type, user_id)"
+        );
+        final CsvTable recurrences = new CsvTable(
+                "recurrences (id, created_date, first_occurrence, recurrence_interval, recurrence_type, "
+                        + "transaction_type, user_id)"
+        );
+        final CsvTable transfers = new CsvTable(
+                "transfers (id, created_date, billing_date, description, installment_index, paid, title, amount, "
+                        + "currency, destination_account_id, recurrence_id, source_account_id)"
+        );
+
+        void copy(CopyManager copyManager) throws SQLException, IOException {
+            for (CsvTable table : List.of(users, usersRoles, accounts, recurrences, transfers)) {
+                table.copy(copyManager);
+            }
+        }
+    }
+
+    private static final class CsvTable {
+        private final String target;
+        private final StringBuilder rows = new StringBuilder(1 << 16);
+
+        CsvTable(String target) {
+            this.target = target;
+        }
+
+        /**
+         * Appends a CSV row; {@code null} becomes SQL NULL and every other value is quoted.
+         */
+        void row(String... values) {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    rows.append(',');
+                }
+
+                if (values[i] != null) {
+                    rows.append('"').append(values[i].replace("\"", "\"\"")).append('"');
+                }
+            }
+
+            rows.append('\n');
+        }
+
+        void copy(CopyManager copyManager) throws SQLException, IOException {
+            copyManager.copyIn("COPY " + target + " FROM STDIN (FORMAT csv)", new StringReader(rows.toString()));
+            rows.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.mumuca.moneytracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replays a weighted endpoint mix against a running API as users seeded by {@link DatasetSeeder}, then prints
+ * a latency distribution per endpoint.
+ * <p>
+ * Each of the {@code --concurrency} workers signs in as one of {@code --users} seeded users and loops over the
+ * mix. Without {@code --rate} the workers send requests back to back (closed model). With {@code --rate}
+ * the workers follow a fixed schedule adding up to that many requests per second. Latency is then measured
+ * from the scheduled start, so a stalled server is not hidden by fewer requests being sent.
+ * Only requests started after {@code --warmup} are recorded.
+ */
+public final class LoadDriver {
+
+    private static final String DEFAULT_MIX = "ME:20,ACTIVE_ACCOUNTS:25,LIST_TRANSFERS:35,GET_TRANSFER:20";
+
+    private static final int MAX_SIGN_IN_ATTEMPTS = 10;
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    enum Endpoint {
+        ME,
+        ACTIVE_ACCOUNTS,
+        LIST_TRANSFERS,
+        GET_TRANSFER;
+
+        String path(Session session, LocalDate today) {
+            return switch (this) {
+                case ME -> "/v1/me";
+                case ACTIVE_ACCOUNTS -> "/v1/accounts/active";
+                case LIST_TRANSFERS -> "/v1/transfers?startDate=" + today.withDayOfMonth(1)
+                        + "&endDate=" + today.withDayOfMonth(today.lengthOfMonth());
+                case GET_TRANSFER -> "/v1/transfers/" + session.randomTransferId();
+            };
+        }
+    }
+
+    record Session(String accessToken, List<String> transferIds) {
+        String randomTransferId() {
+            return transferIds.get(ThreadLocalRandom.current().nextInt(transferIds.size()));
+        }
+    }
+
+    private static final class EndpointStats {
+        final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    private final URI baseUri;
+    private final int users;
+    private final int signInConcurrency;
+    private final String password;
+    private final int concurrency;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final WeightedChoice<Endpoint> mix;
+    private final String histogramDirectory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final LocalDate today = LocalDate.now();
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+    private LoadDriver(Arguments arguments) {
+        this.baseUri = URI.create(arguments.getString("base-url", "http://localhost:8081"));
+        this.users = arguments.getInt("users", 100);
+        this.signInConcurrency = arguments.getInt("sign-in-concurrency", 4);
+        this.password = arguments.getString("password", DatasetSeeder.DEFAULT_PASSWORD);
+        this.concurrency = arguments.getInt("concurrency", 32);
+        this.rate = arguments.getDouble("rate", 0);
+        this.warmup = arguments.getDuration("warmup", Duration.ofSeconds(15));
+        this.duration = arguments.getDuration("duration", Duration.ofSeconds(60));
+        this.mix = WeightedChoice.parse(arguments.getString("mix", DEFAULT_MIX), Endpoint::valueOf);
+        this.histogramDirectory = arguments.getString("histogram-dir", null);
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver(new Arguments(args)).run();
+    }
+
+    private void run() throws Exception {
+        List<Session> sessions = signIn();
+
+        if (mix.items().contains(Endpoint.GET_TRANSFER)
+                && sessions.stream().anyMatch(session -> session.transferIds().isEmpty())) {
+            throw new IllegalStateException("Some seeded users have no transfers, GET_TRANSFER cannot be replayed.");
+        }
+
+        System.out.printf(
+                "Running %s for %ds after %ds of warmup, %d workers%s%n",
+                mix.items(), duration.toSeconds(), warmup.toSeconds(), concurrency,
+                rate > 0 ? " at " + rate + " req/s" : ""
+        );
+
+        long start = System.nanoTime();
+        long recordFrom = start + warmup.toNanos();
+        long deadline = recordFrom + duration.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(concurrency);
+
+            for (int i = 0; i < concurrency; i++) {
+                Session session = sessions.get(i % sessions.size());
+                long firstStart = start + (rate > 0 ? (long) (i * 1e9 / rate) : 0);
+
+                futures.add(workers.submit(() -> work(session, firstStart, recordFrom, deadline)));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        report(System.out, duration.toNanos() / 1e9);
+
+        if (histogramDirectory != null) {
+            writeHistograms(Path.of(histogramDirectory));
+        }
+    }
+
+    private Void work(Session session, long firstStart, long recordFrom, long deadline) throws InterruptedException {
+        long interval = rate > 0 ? (long) (concurrency * 1e9 / rate) : 0;
+        long scheduledStart = firstStart;
+
+        while (true) {
+            if (interval > 0) {
+                long wait = scheduledStart - System.nanoTime();
+
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+            } else {
+                scheduledStart = System.nanoTime();
+            }
+
+            if (scheduledStart >= deadline) {
+                return null;
+            }
+
+            Endpoint endpoint = mix.next(ThreadLocalRandom.current());
+            boolean succeeded = send(session, endpoint);
+            long latency = System.nanoTime() - scheduledStart;
+
+            if (scheduledStart >= recordFrom) {
+                EndpointStats endpointStats = stats.get(endpoint);
+                endpointStats.latencies.recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+
+                if (!succeeded) {
+                    endpointStats.errors.increment();
+                }
+            }
+
+            scheduledStart += interval;
+        }
+    }
+
+    private boolean send(Session session, Endpoint endpoint) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(endpoint.path(session, today)))
+                .header("Authorization", "Bearer " + session.accessToken())
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Signs every user in once up front, so the measured mix does not include password hashing, and
+     * collects a few transfer ids per user for {@link Endpoint#GET_TRANSFER}. Sign-ins are throttled to
+     * {@code --sign-in-concurrency} so they stay within the API's password hashing queue.
+     */
+    private List<Session> signIn() throws Exception {
+        System.out.printf("Signing in %d users%n", users);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(signInConcurrency)) {
+            List<Future<Session>> futures = new ArrayList<>(users);
+
+            for (int n = 0; n < users; n++) {
+                String email = DatasetSeeder.EMAIL_PATTERN.formatted(n);
+                futures.add(executor.submit(() -> signIn(email)));
+            }
+
+            List<Session> sessions = new ArrayList<>(users);
+
+            for (Future<Session> future : futures) {
+                sessions.add(future.get());
+            }
+
+            return sessions;
+        }
+    }
+
+    private Session signIn(String email) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("email", email, "password", password));
+
+        HttpRequest signInRequest = HttpRequest.newBuilder(baseUri.resolve("/v1/auth/sign-in"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        HttpResponse<String> signInResponse = httpClient.send(signInRequest, HttpResponse.BodyHandlers.ofString());
+
+        // 503 means the API's password hashing pool is saturated; back off as told and retry.
+        for (int attempt = 1; signInResponse.statusCode() == 503 && attempt < MAX_SIGN_IN_ATTEMPTS; attempt++) {
+            long retryAfter = signInResponse.headers().firstValueAsLong("Retry-After").orElse(1);
+            TimeUnit.SECONDS.sleep(retryAfter);
+            signInResponse = httpClient.send(signInRequest, HttpResponse.BodyHandlers.ofString());
+        }
+
+        if (signInResponse.statusCode() != 200) {
+            throw new IllegalStateException(
+                    "Sign-in failed for " + email + " with status " + signInResponse.statusCode()
+                            + ", was the dataset seeded?"
+            );
+        }
+
+        String accessToken = objectMapper.readTree(signInResponse.body()).path("accessToken").asText();
+
+        HttpResponse<String> transfersResponse = httpClient.send(
+                HttpRequest.newBuilder(baseUri.resolve(
+                                "/v1/transfers?size=50&startDate=" + today.minusYears(1) + "&endDate=" + today.plusYears(1)
+                        ))
+                        .header("Authorization", "Bearer " + accessToken)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+
+        List<String> transferIds = new ArrayList<>();
+
+        for (JsonNode recurrence : objectMapper.readTree(transfersResponse.body()).path("content")) {
+            for (JsonNode transfer : recurrence.path("recurrences")) {
+                transferIds.add(transfer.path("id").asText());
+            }
+        }
+
+        return new Session(accessToken, transferIds);
+    }
+
+    private void report(PrintStream out, double seconds) {
+        out.printf(
+                "%n%-16s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"
+        );
+
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            Histogram latencies = entry.getValue().latencies;
+
+            if (latencies.getTotalCount() == 0) {
+                continue;
+            }
+
+            out.printf(
+                    "%-16s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(),
+                    latencies.getTotalCount(),
+                    entry.getValue().errors.sum(),
+                    latencies.getTotalCount() / seconds,
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(90)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue())
+            );
+        }
+    }
+
+    /**
+     * Writes one HdrHistogram percentile file per endpoint, in milliseconds, which can be plotted or compared
+     * between runs.
+     */
+    private void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            if (entry.getValue().latencies.getTotalCount() == 0) {
+                continue;
+            }
+
+            Path file = directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().latencies.outputPercentileDistribution(out, 1e6);
+            }
+        }
+
+        System.out.printf("Histograms written to %s%n", directory.toAbsolutePath());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
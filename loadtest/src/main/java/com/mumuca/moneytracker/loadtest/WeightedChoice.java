@@ -0,0 +1,80 @@
+package com.mumuca.moneytracker.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks items proportionally to integer weights, e.g. the recurrence interval mix of the seeder or the
+ * endpoint mix of the load driver.
+ */
+final class WeightedChoice<T> {
+
+    private final List<T> items;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    WeightedChoice(Map<T, Integer> weights) {
+        this.items = new ArrayList<>(weights.size());
+        this.cumulativeWeights = new int[weights.size()];
+
+        int total = 0;
+
+        for (Map.Entry<T, Integer> entry : weights.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+
+            total += entry.getValue();
+            cumulativeWeights[items.size()] = total;
+            items.add(entry.getKey());
+        }
+
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("At least one item needs a positive weight.");
+        }
+
+        this.totalWeight = total;
+    }
+
+    /**
+     * Parses {@code key:weight,key:weight}, keeping the declaration order.
+     */
+    static <T> WeightedChoice<T> parse(String spec, Function<String, T> keyParser) {
+        Map<T, Integer> weights = new LinkedHashMap<>();
+
+        for (String entry : spec.split(",")) {
+            int separator = entry.lastIndexOf(':');
+
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key:weight, got: " + entry);
+            }
+
+            weights.put(
+                    keyParser.apply(entry.substring(0, separator).strip()),
+                    Integer.parseInt(entry.substring(separator + 1).strip())
+            );
+        }
+
+        return new WeightedChoice<>(weights);
+    }
+
+    T next(RandomGenerator random) {
+        int point = random.nextInt(totalWeight);
+
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return items.get(i);
+            }
+        }
+
+        return items.getLast();
+    }
+
+    List<T> items() {
+        return items;
+    }
+}